@@ -0,0 +1,100 @@
+package com.farukgenc.boilerplate.springboot.configuration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Created on October, 2026
+ *
+ * Reads and writes the small bodies of the authentication endpoints with an ObjectReader and ObjectWriter created
+ * once per type, on a copy of the application's ObjectMapper that uses generated accessors (Blackbird) instead of
+ * reflection. Every other type is left to the default Jackson converter, which comes after this one.
+ *
+ * @author Faruk
+ */
+class AuthJsonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+	private final Map<Class<?>, ObjectReader> readers;
+
+	private final Map<Class<?>, ObjectWriter> writers;
+
+	AuthJsonHttpMessageConverter(ObjectMapper objectMapper, Collection<Class<?>> types) {
+
+		super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+
+		final ObjectMapper blackbirdObjectMapper = objectMapper.copy().registerModule(new BlackbirdModule());
+		final Map<Class<?>, ObjectReader> typeReaders = new HashMap<>();
+		final Map<Class<?>, ObjectWriter> typeWriters = new HashMap<>();
+
+		for (Class<?> type : types) {
+			typeReaders.put(type, blackbirdObjectMapper.readerFor(type));
+			typeWriters.put(type, blackbirdObjectMapper.writerFor(type));
+		}
+
+		this.readers = Collections.unmodifiableMap(typeReaders);
+		this.writers = Collections.unmodifiableMap(typeWriters);
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+
+		return readers.containsKey(clazz);
+	}
+
+	@Override
+	protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+
+		final ObjectReader objectReader = readers.get(clazz);
+		final MediaType contentType = inputMessage.getHeaders().getContentType();
+		final Charset charset = Objects.isNull(contentType) ? null : contentType.getCharset();
+
+		try {
+			// Jackson detects the Unicode encodings by itself
+			if (Objects.isNull(charset) || charset.name().startsWith("UTF-")) {
+				return objectReader.readValue(inputMessage.getBody());
+			}
+
+			return objectReader.readValue(new InputStreamReader(inputMessage.getBody(), charset));
+		}
+		catch (JsonProcessingException e) {
+			throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+		}
+	}
+
+	@Override
+	protected void writeInternal(Object object, HttpOutputMessage outputMessage) throws IOException {
+
+		try {
+			writers.get(object.getClass()).writeValue(outputMessage.getBody(), object);
+		}
+		catch (JsonProcessingException e) {
+			throw new HttpMessageNotWritableException("Could not write JSON: " + e.getOriginalMessage(), e);
+		}
+	}
+
+	@Override
+	protected boolean canWrite(MediaType mediaType) {
+
+		return super.canWrite(mediaType) && (Objects.isNull(mediaType) || Objects.isNull(mediaType.getCharset()) || StandardCharsets.UTF_8.equals(mediaType.getCharset()));
+	}
+
+}
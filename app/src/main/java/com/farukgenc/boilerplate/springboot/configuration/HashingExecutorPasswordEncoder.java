@@ -0,0 +1,41 @@
+package com.farukgenc.boilerplate.springboot.configuration;
+
+import com.farukgenc.boilerplate.springboot.security.service.PasswordHashingExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Created on October, 2026
+ *
+ * Encodes and matches on the password hashing executor and waits for the result. Only the hashing itself runs on the
+ * pool, the user lookup and everything else of the login stay on the request thread.
+ *
+ * @author Faruk
+ */
+class HashingExecutorPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate;
+
+	private final PasswordHashingExecutor passwordHashingExecutor;
+
+	HashingExecutorPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor passwordHashingExecutor) {
+
+		this.delegate = delegate;
+		this.passwordHashingExecutor = passwordHashingExecutor;
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return passwordHashingExecutor.invoke(() -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return passwordHashingExecutor.invoke(() -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.farukgenc.boilerplate.springboot.configuration;
+
+import com.farukgenc.boilerplate.springboot.exceptions.ApiExceptionResponse;
+import com.farukgenc.boilerplate.springboot.exceptions.ValidationErrorResponse;
+import com.farukgenc.boilerplate.springboot.security.dto.LoginRequest;
+import com.farukgenc.boilerplate.springboot.security.dto.LoginResponse;
+import com.farukgenc.boilerplate.springboot.security.dto.RefreshTokenRequest;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationRequest;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+
+import java.util.List;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Configuration
+public class JsonConfiguration {
+
+	/**
+	 * Bodies of the authentication endpoints, /login being the busiest of them.
+	 */
+	//@formatter:off
+	static final List<Class<?>> AUTH_BODY_TYPES = List.of(LoginRequest.class, LoginResponse.class, RegistrationRequest.class, RegistrationResponse.class,
+			RefreshTokenRequest.class, ApiExceptionResponse.class, ValidationErrorResponse.class);
+	//@formatter:on
+
+	/**
+	 * Spring Boot puts converter beans in front of its default converters.
+	 */
+	@Bean
+	public HttpMessageConverter<Object> authJsonHttpMessageConverter(ObjectMapper objectMapper) {
+
+		return new AuthJsonHttpMessageConverter(objectMapper, AUTH_BODY_TYPES);
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.farukgenc.boilerplate.springboot.configuration;
+
+import com.farukgenc.boilerplate.springboot.utils.ProjectConstants;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.LocaleResolver;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Configuration
+public class LocaleConfiguration {
+
+	/**
+	 * Picks the best supported locale of Accept-Language, Turkish when the header is missing or nothing matches.
+	 */
+	@Bean(name = DispatcherServlet.LOCALE_RESOLVER_BEAN_NAME)
+	public LocaleResolver localeResolver() {
+
+		final AcceptHeaderLocaleResolver localeResolver = new AcceptHeaderLocaleResolver();
+		localeResolver.setSupportedLocales(ProjectConstants.SUPPORTED_LOCALES);
+		localeResolver.setDefaultLocale(ProjectConstants.TURKISH_LOCALE);
+
+		return localeResolver;
+	}
+
+}
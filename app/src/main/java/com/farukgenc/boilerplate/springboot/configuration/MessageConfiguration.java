@@ -1,10 +1,13 @@
 package com.farukgenc.boilerplate.springboot.configuration;
 
 import com.farukgenc.boilerplate.springboot.utils.ProjectConstants;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
 /**
@@ -13,36 +16,32 @@ import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
  * @author Faruk
  */
 @Configuration
+@RequiredArgsConstructor
 public class MessageConfiguration {
 
+	/**
+	 * With this profile, message bundles are read again every second, so they can be edited without a restart.
+	 */
+	public static final String HOT_RELOAD_PROFILE = "dev";
+
+	private final Environment environment;
+
 	@Bean
 	MessageSource generalMessageSource() {
 
-		final ReloadableResourceBundleMessageSource messageSource = new ReloadableResourceBundleMessageSource();
-		messageSource.setBasename("classpath:/messages/general/GeneralMessages");
-		messageSource.setDefaultEncoding(ProjectConstants.DEFAULT_ENCODING);
-
-		return messageSource;
+		return createMessageSource("classpath:/messages/general/GeneralMessages");
 	}
 
 	@Bean
 	MessageSource exceptionMessageSource() {
 
-		final ReloadableResourceBundleMessageSource messageSource = new ReloadableResourceBundleMessageSource();
-		messageSource.setBasename("classpath:/messages/exception/ExceptionMessages");
-		messageSource.setDefaultEncoding(ProjectConstants.DEFAULT_ENCODING);
-
-		return messageSource;
+		return createMessageSource("classpath:/messages/exception/ExceptionMessages");
 	}
 
 	@Bean
 	public MessageSource validationMessageSource() {
 
-		final ReloadableResourceBundleMessageSource messageSource = new ReloadableResourceBundleMessageSource();
-		messageSource.setBasename("classpath:/messages/validation/ValidationMessages");
-		messageSource.setDefaultEncoding(ProjectConstants.DEFAULT_ENCODING);
-
-		return messageSource;
+		return createMessageSource("classpath:/messages/validation/ValidationMessages");
 	}
 
 	@Bean
@@ -54,4 +53,19 @@ public class MessageConfiguration {
 		return bean;
 	}
 
+	private MessageSource createMessageSource(String basename) {
+
+		if (!environment.acceptsProfiles(Profiles.of(HOT_RELOAD_PROFILE))) {
+			return new PrecompiledMessageSource(basename, ProjectConstants.DEFAULT_ENCODING, ProjectConstants.SUPPORTED_LOCALES);
+		}
+
+		final ReloadableResourceBundleMessageSource messageSource = new ReloadableResourceBundleMessageSource();
+		messageSource.setBasename(basename);
+		messageSource.setDefaultEncoding(ProjectConstants.DEFAULT_ENCODING);
+		messageSource.setFallbackToSystemLocale(false);
+		messageSource.setCacheSeconds(1);
+
+		return messageSource;
+	}
+
 }
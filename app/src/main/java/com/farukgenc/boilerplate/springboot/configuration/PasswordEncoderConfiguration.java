@@ -0,0 +1,128 @@
+package com.farukgenc.boilerplate.springboot.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Created on March, 2023
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "password-encoder")
+public class PasswordEncoderConfiguration {
+
+	private static final String BCRYPT = "bcrypt";
+
+	private static final String PBKDF2 = "pbkdf2";
+
+	private static final int PBKDF2_SALT_LENGTH = 16;
+
+	private static final int PBKDF2_HASH_WIDTH = 256;
+
+	private static final int MAX_BCRYPT_STRENGTH = 31;
+
+	private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+	/**
+	 * Encoder id that is used for new hashes, stored as the {id} prefix.
+	 */
+	private String algorithm = BCRYPT;
+
+	/**
+	 * BCrypt cost, also the lower bound when calibrating.
+	 */
+	private int bcryptStrength = 10;
+
+	/**
+	 * PBKDF2 iterations, also the lower bound when calibrating.
+	 */
+	private int pbkdf2Iterations = 185_000;
+
+	/**
+	 * Measures the hardware at startup and raises the cost parameters until hashing takes about target-latency.
+	 */
+	private boolean calibrate;
+
+	private Duration targetLatency = Duration.ofMillis(250);
+
+	@Bean
+	public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+
+		if (calibrate) {
+			calibrateBcryptStrength();
+			calibratePbkdf2Iterations();
+		}
+
+		final BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+
+		final Map<String, PasswordEncoder> encoders = new HashMap<>();
+		encoders.put(BCRYPT, bCryptPasswordEncoder);
+		encoders.put(PBKDF2, createPbkdf2PasswordEncoder(pbkdf2Iterations));
+
+		final DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(algorithm, encoders);
+		// Hashes stored before the {id} prefix was introduced are plain BCrypt.
+		delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder);
+
+		log.info("Password encoder : {}, bcrypt strength : {}, pbkdf2 iterations : {}", algorithm, bcryptStrength, pbkdf2Iterations);
+
+		return new TimedPasswordEncoder(delegatingPasswordEncoder, meterRegistry);
+	}
+
+	private void calibrateBcryptStrength() {
+
+		final long targetNanos = targetLatency.toNanos();
+
+		int strength = bcryptStrength;
+		while (strength < MAX_BCRYPT_STRENGTH && measureEncode(new BCryptPasswordEncoder(strength + 1)) <= targetNanos) {
+			strength++;
+		}
+
+		bcryptStrength = strength;
+	}
+
+	private void calibratePbkdf2Iterations() {
+
+		final long elapsedNanos = Math.max(1, measureEncode(createPbkdf2PasswordEncoder(pbkdf2Iterations)));
+		final long calibratedIterations = pbkdf2Iterations * targetLatency.toNanos() / elapsedNanos;
+
+		pbkdf2Iterations = (int) Math.min(Integer.MAX_VALUE, Math.max(pbkdf2Iterations, calibratedIterations));
+	}
+
+	private static long measureEncode(PasswordEncoder passwordEncoder) {
+
+		// The first run warms up the code path, the second one is measured.
+		passwordEncoder.encode(CALIBRATION_PASSWORD);
+
+		final long start = System.nanoTime();
+		passwordEncoder.encode(CALIBRATION_PASSWORD);
+
+		return System.nanoTime() - start;
+	}
+
+	private static Pbkdf2PasswordEncoder createPbkdf2PasswordEncoder(int iterations) {
+
+		final Pbkdf2PasswordEncoder pbkdf2PasswordEncoder = new Pbkdf2PasswordEncoder(StringUtils.EMPTY, PBKDF2_SALT_LENGTH, iterations, PBKDF2_HASH_WIDTH);
+		pbkdf2PasswordEncoder.setAlgorithm(Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+
+		return pbkdf2PasswordEncoder;
+	}
+
+}
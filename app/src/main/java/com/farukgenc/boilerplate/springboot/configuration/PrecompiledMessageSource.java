@@ -0,0 +1,141 @@
+package com.farukgenc.boilerplate.springboot.configuration;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.support.AbstractMessageSource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Created on October, 2026
+ *
+ * Reads the bundle of every supported locale once and keeps an immutable table of its messages, each with a parsed
+ * MessageFormat. Lookups are plain map reads, messages without arguments are returned as they are and messages with
+ * arguments are formatted without parsing their pattern again. The bundles are never reloaded.
+ *
+ * Unknown locales fall back to their language and then to the base bundle, not to the system locale.
+ *
+ * @author Faruk
+ */
+class PrecompiledMessageSource extends AbstractMessageSource {
+
+	private static final String PROPERTIES_SUFFIX = ".properties";
+
+	private final Map<Locale, Map<String, CompiledMessage>> messagesByLocale;
+
+	private final Map<String, CompiledMessage> baseMessages;
+
+	PrecompiledMessageSource(String basename, String encoding, Collection<Locale> locales) {
+
+		final ResourceLoader resourceLoader = new DefaultResourceLoader();
+		final Properties baseProperties = loadProperties(resourceLoader, basename, encoding);
+		final Map<Locale, Map<String, CompiledMessage>> compiledMessages = new HashMap<>();
+
+		for (Locale locale : locales) {
+
+			final Properties languageProperties = new Properties();
+			languageProperties.putAll(baseProperties);
+			languageProperties.putAll(loadProperties(resourceLoader, basename + "_" + locale.getLanguage(), encoding));
+
+			final Locale languageLocale = new Locale(locale.getLanguage());
+			compiledMessages.putIfAbsent(languageLocale, compile(languageProperties, languageLocale));
+
+			if (StringUtils.isNotEmpty(locale.getCountry())) {
+
+				final Properties countryProperties = new Properties();
+				countryProperties.putAll(languageProperties);
+				countryProperties.putAll(loadProperties(resourceLoader, basename + "_" + locale.getLanguage() + "_" + locale.getCountry(), encoding));
+
+				compiledMessages.put(locale, compile(countryProperties, locale));
+			}
+		}
+
+		this.messagesByLocale = Collections.unmodifiableMap(compiledMessages);
+		this.baseMessages = compile(baseProperties, Locale.ROOT);
+	}
+
+	@Override
+	protected String resolveCodeWithoutArguments(String code, Locale locale) {
+
+		final CompiledMessage compiledMessage = getMessages(locale).get(code);
+
+		return Objects.isNull(compiledMessage) ? null : compiledMessage.message;
+	}
+
+	@Override
+	protected MessageFormat resolveCode(String code, Locale locale) {
+
+		final CompiledMessage compiledMessage = getMessages(locale).get(code);
+
+		return Objects.isNull(compiledMessage) ? null : compiledMessage.messageFormat;
+	}
+
+	private Map<String, CompiledMessage> getMessages(Locale locale) {
+
+		Map<String, CompiledMessage> messages = messagesByLocale.get(locale);
+
+		if (Objects.isNull(messages) && StringUtils.isNotEmpty(locale.getCountry())) {
+			messages = messagesByLocale.get(new Locale(locale.getLanguage()));
+		}
+
+		return Objects.isNull(messages) ? baseMessages : messages;
+	}
+
+	private Map<String, CompiledMessage> compile(Properties properties, Locale locale) {
+
+		final Map<String, CompiledMessage> compiledMessages = new HashMap<>();
+
+		for (String code : properties.stringPropertyNames()) {
+
+			final String message = properties.getProperty(code);
+			compiledMessages.put(code, new CompiledMessage(message, createMessageFormat(message, locale)));
+		}
+
+		return Collections.unmodifiableMap(compiledMessages);
+	}
+
+	private static Properties loadProperties(ResourceLoader resourceLoader, String filename, String encoding) {
+
+		final Resource resource = resourceLoader.getResource(filename + PROPERTIES_SUFFIX);
+		final Properties properties = new Properties();
+
+		if (!resource.exists()) {
+			return properties;
+		}
+
+		try {
+			PropertiesLoaderUtils.fillProperties(properties, new EncodedResource(resource, encoding));
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Messages could not be read from " + resource.getDescription(), e);
+		}
+
+		return properties;
+	}
+
+	private static class CompiledMessage {
+
+		private final String message;
+
+		private final MessageFormat messageFormat;
+
+		CompiledMessage(String message, MessageFormat messageFormat) {
+			this.message = message;
+			this.messageFormat = messageFormat;
+		}
+
+	}
+
+}
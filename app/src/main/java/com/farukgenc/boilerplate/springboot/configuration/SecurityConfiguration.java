@@ -0,0 +1,121 @@
+package com.farukgenc.boilerplate.springboot.configuration;
+
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtAuthenticationFilter;
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtAuthenticationEntryPoint;
+import com.farukgenc.boilerplate.springboot.security.service.PasswordHashingExecutor;
+import com.farukgenc.boilerplate.springboot.security.service.UserDetailsServiceImpl;
+import com.farukgenc.boilerplate.springboot.security.utils.SecurityConstants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Created on Ağustos, 2020
+ *
+ * @author Faruk
+ */
+@Configuration
+@EnableWebSecurity
+@RequiredArgsConstructor
+@EnableGlobalMethodSecurity(prePostEnabled = true)
+public class SecurityConfiguration {
+
+	/**
+	 * Paths that never need a token. They are served by their own chain, without the token filter and without any
+	 * security context handling, so health checks and docs traffic cost next to nothing. The other actuator endpoints
+	 * need a token.
+	 */
+	//@formatter:off
+	private static final RequestMatcher PUBLIC_PATHS = new OrRequestMatcher(Stream.of(
+			SecurityConstants.REGISTRATION_REQUEST_URI, SecurityConstants.LOGIN_REQUEST_URI, "/token/refresh",
+			"/.well-known/jwks.json", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", "/actuator/health", "/actuator/health/**", "/actuator/info")
+			.map(AntPathRequestMatcher::new)
+			.collect(Collectors.toList()));
+	//@formatter:on
+
+	private final JwtAuthenticationFilter jwtAuthenticationFilter;
+
+	private final JwtAuthenticationEntryPoint unauthorizedHandler;
+
+	/**
+	 * Passwords are matched on the password hashing executor, outdated hashes are upgraded on login.
+	 */
+	@Bean
+	public AuthenticationManager authenticationManager(UserDetailsServiceImpl userDetailsService, PasswordEncoder passwordEncoder, PasswordHashingExecutor passwordHashingExecutor) {
+
+		final DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
+		authenticationProvider.setUserDetailsService(userDetailsService);
+		authenticationProvider.setUserDetailsPasswordService(userDetailsService);
+		authenticationProvider.setPasswordEncoder(new HashingExecutorPasswordEncoder(passwordEncoder, passwordHashingExecutor));
+
+		return new ProviderManager(authenticationProvider);
+	}
+
+	/**
+	 * The filter is a bean, keep Spring Boot from registering it for every request outside the security chain.
+	 */
+	@Bean
+	public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+
+		final FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+		registration.setEnabled(false);
+
+		return registration;
+	}
+
+	@Bean
+	@Order(1)
+	public SecurityFilterChain publicSecurityFilterChain(HttpSecurity http) throws Exception {
+
+		//@formatter:off
+
+		return http.requestMatcher(PUBLIC_PATHS)
+				.cors().and().csrf().disable()
+				.securityContext().disable()
+				.sessionManagement().disable()
+				.requestCache().disable()
+				.anonymous().disable()
+				.servletApi().disable()
+				.exceptionHandling().disable()
+				.logout().disable()
+				.build();
+
+		//@formatter:on
+	}
+
+	@Bean
+	@Order(2)
+	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+
+		//@formatter:off
+
+		return http.cors().and().csrf().disable()
+				.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+				.authorizeRequests()
+				.anyRequest().authenticated().and()
+				.exceptionHandling().authenticationEntryPoint(unauthorizedHandler).and()
+				.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+				.and().build();
+
+		//@formatter:on
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.farukgenc.boilerplate.springboot.configuration;
+
+import com.farukgenc.boilerplate.springboot.security.utils.AuthenticationOutcome;
+import com.farukgenc.boilerplate.springboot.security.utils.AuthenticationTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Created on October, 2026
+ *
+ * Records encode and match times of the delegate as auth.password.encode and auth.password.match.
+ *
+ * @author Faruk
+ */
+class TimedPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate;
+
+	private final AuthenticationTimer encodeTimer;
+
+	private final AuthenticationTimer matchTimer;
+
+	TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+
+		this.delegate = delegate;
+		this.encodeTimer = new AuthenticationTimer(meterRegistry, "auth.password.encode", "Hashing of passwords", AuthenticationOutcome.VALID);
+		this.matchTimer = new AuthenticationTimer(meterRegistry, "auth.password.match", "Comparison of passwords with their stored hash", AuthenticationOutcome.VALID, AuthenticationOutcome.BAD_CREDENTIALS);
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+
+		final long start = System.nanoTime();
+		final String encodedPassword = delegate.encode(rawPassword);
+		encodeTimer.record(start, AuthenticationOutcome.VALID);
+
+		return encodedPassword;
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+
+		final long start = System.nanoTime();
+		final boolean matches = delegate.matches(rawPassword, encodedPassword);
+		matchTimer.record(start, matches ? AuthenticationOutcome.VALID : AuthenticationOutcome.BAD_CREDENTIALS);
+
+		return matches;
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+}
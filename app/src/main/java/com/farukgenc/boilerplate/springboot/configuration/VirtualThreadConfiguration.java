@@ -0,0 +1,68 @@
+package com.farukgenc.boilerplate.springboot.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Created on October, 2026
+ *
+ * Runs Tomcat request handling and @Async methods on virtual threads. Requires Java 21 or later at runtime, the
+ * executor is looked up reflectively so that the project still compiles for Java 11.
+ *
+ * Password hashing stays on the bounded platform thread pool of PasswordHashingExecutor, since BCrypt is CPU bound
+ * and must not run with unbounded concurrency.
+ *
+ * @author Faruk
+ */
+@Slf4j
+@EnableAsync
+@Configuration
+@Profile(VirtualThreadConfiguration.PROFILE)
+public class VirtualThreadConfiguration {
+
+	public static final String PROFILE = "virtual-threads";
+
+	@Bean
+	public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+
+		final ExecutorService executorService = newVirtualThreadPerTaskExecutor();
+
+		log.info("Tomcat requests will be handled on virtual threads");
+
+		return protocolHandler -> protocolHandler.setExecutor(executorService);
+	}
+
+	/**
+	 * Security context of the caller is copied to the virtual thread, since a new thread does not inherit it.
+	 */
+	@Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+	public AsyncTaskExecutor applicationTaskExecutor() {
+
+		final TaskExecutorAdapter taskExecutor = new TaskExecutorAdapter(newVirtualThreadPerTaskExecutor());
+
+		return new DelegatingSecurityContextAsyncTaskExecutor(taskExecutor);
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() {
+
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("The " + PROFILE + " profile requires Java 21 or later, running on " + System.getProperty("java.version"), e);
+		}
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.farukgenc.boilerplate.springboot.controller;
+
+import com.farukgenc.boilerplate.springboot.security.dto.LoginActivityResponse;
+import com.farukgenc.boilerplate.springboot.security.service.LoginActivityTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@CrossOrigin
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin")
+@PreAuthorize("hasAuthority('ADMIN')")
+public class AdminController {
+
+	private final LoginActivityTracker loginActivityTracker;
+
+	@GetMapping("/users/{username}/login-activity")
+	public ResponseEntity<LoginActivityResponse> loginActivityRequest(@PathVariable String username) {
+
+		return ResponseEntity.of(loginActivityTracker.getLoginActivity(username));
+	}
+
+}
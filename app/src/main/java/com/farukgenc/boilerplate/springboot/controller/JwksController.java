@@ -0,0 +1,38 @@
+package com.farukgenc.boilerplate.springboot.controller;
+
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtKeySet;
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtKeyProvider;
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Created on October, 2026
+ *
+ * Publishes the public signing keys. The body is serialized once per key set and carries a strong ETag, so a
+ * revalidating client gets a 304 without a body.
+ *
+ * @author Faruk
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+	private final JwtKeyProvider jwtKeyProvider;
+
+	private final JwtProperties jwtProperties;
+
+	@GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<byte[]> jwks() {
+
+		final JwtKeySet keySet = jwtKeyProvider.getKeySet();
+		final CacheControl cacheControl = CacheControl.maxAge(jwtProperties.getKeys().getJwksMaxAge()).cachePublic();
+
+		return ResponseEntity.ok().cacheControl(cacheControl).eTag(keySet.getJwksEtag()).body(keySet.getJwks());
+	}
+
+}
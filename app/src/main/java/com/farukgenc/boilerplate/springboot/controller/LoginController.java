@@ -3,10 +3,12 @@ package com.farukgenc.boilerplate.springboot.controller;
 import com.farukgenc.boilerplate.springboot.security.dto.LoginRequest;
 import com.farukgenc.boilerplate.springboot.security.dto.LoginResponse;
 import com.farukgenc.boilerplate.springboot.security.jwt.JwtTokenService;
+import com.farukgenc.boilerplate.springboot.security.service.LoginThrottle;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 
 /**
@@ -22,8 +24,12 @@ public class LoginController {
 
 	private final JwtTokenService jwtTokenService;
 
+	private final LoginThrottle loginThrottle;
+
 	@PostMapping
-	public ResponseEntity<LoginResponse> loginRequest(@Valid @RequestBody LoginRequest loginRequest) {
+	public ResponseEntity<LoginResponse> loginRequest(@Valid @RequestBody LoginRequest loginRequest, HttpServletRequest request) {
+
+		loginThrottle.checkAttempt(loginRequest.getUsername(), request.getRemoteAddr());
 
 		final LoginResponse loginResponse = jwtTokenService.getLoginResponse(loginRequest);
 
@@ -0,0 +1,55 @@
+package com.farukgenc.boilerplate.springboot.controller;
+
+import com.farukgenc.boilerplate.springboot.security.dto.BatchRegistrationResponse;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationRequest;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationResponse;
+import com.farukgenc.boilerplate.springboot.security.service.BatchRegistrationService;
+import com.farukgenc.boilerplate.springboot.security.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Created on Ağustos, 2020
+ *
+ * @author Faruk
+ */
+@CrossOrigin
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/register")
+public class RegistrationController {
+
+	private final UserService userService;
+
+	private final BatchRegistrationService batchRegistrationService;
+
+	@PostMapping
+	public ResponseEntity<RegistrationResponse> registrationRequest(@Valid @RequestBody RegistrationRequest registrationRequest) {
+
+		final RegistrationResponse registrationResponse = userService.registration(registrationRequest);
+
+		return ResponseEntity.status(HttpStatus.CREATED).body(registrationResponse);
+	}
+
+	/**
+	 * Accepts a JSON array of registration requests, or one request per line as NDJSON for large payloads. Only for
+	 * administrators, a batch can keep the password hashing pool busy for a long time.
+	 */
+	@PreAuthorize("hasAuthority('ADMIN')")
+	@PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+	public ResponseEntity<BatchRegistrationResponse> registrationBatchRequest(InputStream inputStream) throws IOException {
+
+		final BatchRegistrationResponse batchRegistrationResponse = batchRegistrationService.registration(inputStream);
+
+		return ResponseEntity.ok(batchRegistrationResponse);
+	}
+
+}
@@ -0,0 +1,50 @@
+package com.farukgenc.boilerplate.springboot.controller;
+
+import com.farukgenc.boilerplate.springboot.security.dto.LoginResponse;
+import com.farukgenc.boilerplate.springboot.security.dto.RefreshTokenRequest;
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtTokenService;
+import com.farukgenc.boilerplate.springboot.security.service.RefreshTokenService;
+import com.farukgenc.boilerplate.springboot.security.utils.SecurityConstants;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.util.Objects;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@CrossOrigin
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/token")
+public class TokenController {
+
+	private final RefreshTokenService refreshTokenService;
+
+	private final JwtTokenService jwtTokenService;
+
+	@PostMapping("/refresh")
+	public ResponseEntity<LoginResponse> refreshRequest(@Valid @RequestBody RefreshTokenRequest refreshTokenRequest) {
+
+		final LoginResponse loginResponse = refreshTokenService.refresh(refreshTokenRequest.getRefreshToken());
+
+		return ResponseEntity.ok(loginResponse);
+	}
+
+	@PostMapping("/revoke")
+	public ResponseEntity<Void> revokeRequest(@RequestHeader(SecurityConstants.HEADER_STRING) String authorization, @RequestBody(required = false) RefreshTokenRequest refreshTokenRequest) {
+
+		final String token = StringUtils.removeStart(authorization, SecurityConstants.TOKEN_PREFIX);
+		final String refreshToken = Objects.isNull(refreshTokenRequest) ? null : refreshTokenRequest.getRefreshToken();
+
+		jwtTokenService.revokeToken(token, refreshToken);
+
+		return ResponseEntity.noContent().build();
+	}
+
+}
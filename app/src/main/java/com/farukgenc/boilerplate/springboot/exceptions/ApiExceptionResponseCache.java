@@ -0,0 +1,77 @@
+package com.farukgenc.boilerplate.springboot.exceptions;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Created on October, 2026
+ *
+ * Serialized ApiExceptionResponse bodies for the rejections that can be triggered at high rates. Everything but the
+ * time is serialized once per status and message, and messages are already localized, so there is one entry per
+ * locale. A rejection then costs a timestamp and one array copy instead of a round through the message converter.
+ *
+ * @author Faruk
+ */
+@Component
+public class ApiExceptionResponseCache {
+
+	private static final int MAXIMUM_MESSAGES_PER_STATUS = 1000;
+
+	/**
+	 * Same format as the JSR-310 module of Jackson writes a LocalDateTime with.
+	 */
+	private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+	private static final byte[] BODY_SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+	private final ObjectMapper objectMapper;
+
+	private final Map<HttpStatus, Cache<String, byte[]>> bodyPrefixes = new ConcurrentHashMap<>();
+
+	public ApiExceptionResponseCache(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	public byte[] getBody(HttpStatus status, String message) {
+
+		final Cache<String, byte[]> prefixes = bodyPrefixes.computeIfAbsent(status, ignored -> Caffeine.newBuilder().maximumSize(MAXIMUM_MESSAGES_PER_STATUS).build());
+
+		byte[] prefix = prefixes.getIfPresent(message);
+		if (Objects.isNull(prefix)) {
+			prefix = createBodyPrefix(status, message);
+			prefixes.put(message, prefix);
+		}
+
+		final byte[] time = TIME_FORMATTER.format(LocalDateTime.now()).getBytes(StandardCharsets.US_ASCII);
+		final byte[] body = Arrays.copyOf(prefix, prefix.length + time.length + BODY_SUFFIX.length);
+		System.arraycopy(time, 0, body, prefix.length, time.length);
+		System.arraycopy(BODY_SUFFIX, 0, body, prefix.length + time.length, BODY_SUFFIX.length);
+
+		return body;
+	}
+
+	private byte[] createBodyPrefix(HttpStatus status, String message) {
+
+		try {
+			final String prefix = "{\"message\":" + objectMapper.writeValueAsString(message) + ",\"status\":" + objectMapper.writeValueAsString(status) + ",\"time\":\"";
+
+			return prefix.getBytes(StandardCharsets.UTF_8);
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalStateException("Response body could not be created for " + message, e);
+		}
+	}
+
+}
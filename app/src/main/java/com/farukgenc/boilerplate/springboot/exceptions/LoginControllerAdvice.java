@@ -0,0 +1,46 @@
+package com.farukgenc.boilerplate.springboot.exceptions;
+
+import com.farukgenc.boilerplate.springboot.controller.LoginController;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Created on Ağustos, 2020
+ *
+ * Bodies are ApiExceptionResponses, serialized from the cache.
+ *
+ * @author Faruk
+ */
+@RequiredArgsConstructor
+@RestControllerAdvice(basePackageClasses = LoginController.class)
+public class LoginControllerAdvice {
+
+	private final ApiExceptionResponseCache apiExceptionResponseCache;
+
+	@ExceptionHandler(BadCredentialsException.class)
+	ResponseEntity<byte[]> handleRegistrationException(BadCredentialsException exception) {
+
+		final byte[] response = apiExceptionResponseCache.getBody(HttpStatus.UNAUTHORIZED, exception.getMessage());
+
+		return ResponseEntity.status(HttpStatus.UNAUTHORIZED).contentType(MediaType.APPLICATION_JSON).body(response);
+	}
+
+	@ExceptionHandler(LoginThrottledException.class)
+	ResponseEntity<byte[]> handleLoginThrottledException(LoginThrottledException exception) {
+
+		final byte[] response = apiExceptionResponseCache.getBody(HttpStatus.TOO_MANY_REQUESTS, exception.getErrorMessage());
+
+		// Rounded up, a client retrying after the truncated value would be throttled again
+		final long retryAfterMillis = exception.getRetryAfter().toMillis();
+		final String retryAfter = String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000));
+
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, retryAfter).contentType(MediaType.APPLICATION_JSON).body(response);
+	}
+
+}
@@ -0,0 +1,28 @@
+package com.farukgenc.boilerplate.springboot.exceptions;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Created on October, 2026
+ *
+ * Expected rejection, it does not capture a stack trace.
+ *
+ * @author Faruk
+ */
+@Getter
+public class LoginThrottledException extends RuntimeException {
+
+	private final String errorMessage;
+
+	private final Duration retryAfter;
+
+	public LoginThrottledException(String errorMessage, Duration retryAfter) {
+
+		super(errorMessage, null, false, false);
+		this.errorMessage = errorMessage;
+		this.retryAfter = retryAfter;
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.farukgenc.boilerplate.springboot.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Created on October, 2026
+ *
+ * Expected rejection, it does not capture a stack trace.
+ *
+ * @author Faruk
+ */
+@Getter
+public class RefreshTokenException extends RuntimeException {
+
+	private final String errorMessage;
+
+	public RefreshTokenException(String errorMessage) {
+
+		super(errorMessage, null, false, false);
+		this.errorMessage = errorMessage;
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.farukgenc.boilerplate.springboot.exceptions;
+
+import com.farukgenc.boilerplate.springboot.controller.RegistrationController;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Created on Ağustos, 2020
+ *
+ * @author Faruk
+ */
+@RequiredArgsConstructor
+@RestControllerAdvice(basePackageClasses = RegistrationController.class)
+public class RegistrationControllerAdvice {
+
+	private final ApiExceptionResponseCache apiExceptionResponseCache;
+
+	/**
+	 * The body is an ApiExceptionResponse, serialized from the cache.
+	 */
+	@ExceptionHandler(RegistrationException.class)
+	ResponseEntity<byte[]> handleRegistrationException(RegistrationException exception) {
+
+		final byte[] response = apiExceptionResponseCache.getBody(HttpStatus.BAD_REQUEST, exception.getErrorMessage());
+
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON).body(response);
+	}
+
+}
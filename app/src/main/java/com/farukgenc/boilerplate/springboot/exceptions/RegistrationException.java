@@ -1,17 +1,23 @@
 package com.farukgenc.boilerplate.springboot.exceptions;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Created on Ağustos, 2020
  *
+ * Expected rejection that is thrown for every duplicate registration, it does not capture a stack trace.
+ *
  * @author Faruk
  */
 @Getter
-@RequiredArgsConstructor
 public class RegistrationException extends RuntimeException {
 
 	private final String errorMessage;
 
+	public RegistrationException(String errorMessage) {
+
+		super(errorMessage, null, false, false);
+		this.errorMessage = errorMessage;
+	}
+
 }
@@ -0,0 +1,27 @@
+package com.farukgenc.boilerplate.springboot.exceptions;
+
+import com.farukgenc.boilerplate.springboot.controller.TokenController;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@RestControllerAdvice(basePackageClasses = TokenController.class)
+public class TokenControllerAdvice {
+
+	@ExceptionHandler(RefreshTokenException.class)
+	ResponseEntity<ApiExceptionResponse> handleRefreshTokenException(RefreshTokenException exception) {
+
+		final ApiExceptionResponse response = new ApiExceptionResponse(exception.getErrorMessage(), HttpStatus.UNAUTHORIZED, LocalDateTime.now());
+
+		return ResponseEntity.status(response.getStatus()).body(response);
+	}
+
+}
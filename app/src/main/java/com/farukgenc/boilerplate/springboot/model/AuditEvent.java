@@ -0,0 +1,40 @@
+package com.farukgenc.boilerplate.springboot.model;
+
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityEventType;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "AUDIT_EVENTS", indexes = {@Index(name = "IX_AUDIT_EVENTS_USERNAME", columnList = "username"),
+		@Index(name = "IX_AUDIT_EVENTS_OCCURRED_AT", columnList = "occurredAt")})
+public class AuditEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_events_seq")
+	@SequenceGenerator(name = "audit_events_seq", sequenceName = "AUDIT_EVENTS_SEQ", allocationSize = 50)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private SecurityEventType type;
+
+	private String username;
+
+	private String detail;
+
+	@Column(nullable = false)
+	private Instant occurredAt;
+
+}
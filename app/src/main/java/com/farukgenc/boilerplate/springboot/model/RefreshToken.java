@@ -0,0 +1,56 @@
+package com.farukgenc.boilerplate.springboot.model;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+/**
+ * Created on October, 2026
+ *
+ * Opaque refresh token, only its SHA-256 hash is stored. Every token exchanged at /token/refresh is replaced by a new
+ * one of the same family, so a rotated token that is presented again reveals that it was copied.
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "REFRESH_TOKENS", uniqueConstraints = @UniqueConstraint(name = "UK_REFRESH_TOKENS_TOKEN_HASH", columnNames = "tokenHash"),
+		indexes = @Index(name = "IX_REFRESH_TOKENS_FAMILY_ID", columnList = "familyId"))
+public class RefreshToken {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_tokens_seq")
+	@SequenceGenerator(name = "refresh_tokens_seq", sequenceName = "REFRESH_TOKENS_SEQ", allocationSize = 50)
+	private Long id;
+
+	@Column(nullable = false)
+	private String tokenHash;
+
+	/**
+	 * Shared by all tokens that descend from the same login.
+	 */
+	@Column(nullable = false)
+	private String familyId;
+
+	@Column(nullable = false)
+	private String username;
+
+	/**
+	 * Token version of the user at login, the family stops working once the tokens of the user are invalidated.
+	 */
+	private int tokenVersion;
+
+	@Column(nullable = false)
+	private Instant expiresAt;
+
+	/**
+	 * Set when the token has been exchanged for a new one.
+	 */
+	private boolean rotated;
+
+}
@@ -0,0 +1,60 @@
+package com.farukgenc.boilerplate.springboot.model;
+
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+/**
+ * Created on October, 2026
+ *
+ * Access token that was revoked before its expiry, identified by its jti claim. Rows are only needed until the token
+ * would have expired anyway. Ids are assigned, so the entity tells Spring Data whether it is new, otherwise every save
+ * would select the row before merging it.
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "REVOKED_TOKENS", indexes = {@Index(name = "IX_REVOKED_TOKENS_REVOKED_AT", columnList = "revokedAt"),
+		@Index(name = "IX_REVOKED_TOKENS_EXPIRES_AT", columnList = "expiresAt")})
+public class RevokedToken implements Persistable<String> {
+
+	@Id
+	private String tokenId;
+
+	@Column(nullable = false)
+	private String username;
+
+	@Column(nullable = false)
+	private Instant revokedAt;
+
+	@Column(nullable = false)
+	private Instant expiresAt;
+
+	@Transient
+	@Builder.Default
+	private boolean persisted = false;
+
+	@Override
+	public String getId() {
+		return tokenId;
+	}
+
+	@Override
+	public boolean isNew() {
+		return !persisted;
+	}
+
+	@PostLoad
+	@PostPersist
+	void markPersisted() {
+		persisted = true;
+	}
+
+}
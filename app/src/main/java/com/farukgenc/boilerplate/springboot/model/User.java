@@ -0,0 +1,62 @@
+package com.farukgenc.boilerplate.springboot.model;
+
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtClaimsSource;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+/**
+ * Created on Ağustos, 2020
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "USERS", uniqueConstraints = {
+		@UniqueConstraint(name = UserConstraints.USERNAME_CONSTRAINT, columnNames = "username"),
+		@UniqueConstraint(name = UserConstraints.EMAIL_CONSTRAINT, columnNames = "email")
+})
+public class User implements JwtClaimsSource {
+
+	/**
+	 * Sequence based with a pooled allocation, unlike IDENTITY this lets Hibernate batch inserts.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+	@SequenceGenerator(name = "users_seq", sequenceName = "USERS_SEQ", allocationSize = 50)
+	private Long id;
+
+	private String name;
+
+	private String username;
+
+	private String password;
+
+	private String email;
+
+	@Enumerated(EnumType.STRING)
+	private UserRole userRole;
+
+	/**
+	 * Incremented whenever previously issued tokens of this user must stop being accepted.
+	 */
+	private int tokenVersion;
+
+	/**
+	 * Written only by the login activity tracker, never by entity updates, so a stale entity can not overwrite them.
+	 */
+	@Column(updatable = false)
+	private Instant lastLoginAt;
+
+	/**
+	 * Not null with a default, users inserted by the reactive module or older versions start at 0.
+	 */
+	@Column(updatable = false, nullable = false, columnDefinition = "bigint default 0")
+	private long loginCount;
+
+}
@@ -0,0 +1,22 @@
+package com.farukgenc.boilerplate.springboot.model;
+
+/**
+ * Created on October, 2026
+ *
+ * Names of the unique constraints of USERS. Kept apart from the entity so the reactive module can translate constraint
+ * violations without JPA on its classpath.
+ *
+ * @author Faruk
+ */
+public final class UserConstraints {
+
+	public static final String USERNAME_CONSTRAINT = "UK_USERS_USERNAME";
+
+	public static final String EMAIL_CONSTRAINT = "UK_USERS_EMAIL";
+
+	private UserConstraints() {
+
+		throw new UnsupportedOperationException();
+	}
+
+}
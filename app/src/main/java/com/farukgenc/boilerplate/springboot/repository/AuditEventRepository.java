@@ -0,0 +1,26 @@
+package com.farukgenc.boilerplate.springboot.repository;
+
+import com.farukgenc.boilerplate.springboot.model.AuditEvent;
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityEventType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+public interface AuditEventRepository extends JpaRepository<AuditEvent, Long> {
+
+	List<AuditEvent> findByUsernameAndType(String username, SecurityEventType type);
+
+	@Modifying
+	@Query("delete from AuditEvent a where a.occurredAt < :threshold")
+	int deleteOccurredBefore(@Param("threshold") Instant threshold);
+
+}
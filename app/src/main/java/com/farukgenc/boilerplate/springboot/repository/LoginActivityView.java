@@ -0,0 +1,16 @@
+package com.farukgenc.boilerplate.springboot.repository;
+
+import java.time.Instant;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+public interface LoginActivityView {
+
+	Instant getLastLoginAt();
+
+	long getLoginCount();
+
+}
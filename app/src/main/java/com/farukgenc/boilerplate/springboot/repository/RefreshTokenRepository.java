@@ -0,0 +1,37 @@
+package com.farukgenc.boilerplate.springboot.repository;
+
+import com.farukgenc.boilerplate.springboot.model.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+	RefreshToken findByTokenHash(String tokenHash);
+
+	/**
+	 * Conditional update, so only one of two concurrent exchanges of the same token can succeed.
+	 *
+	 * @return 1 if the token was not rotated before, 0 otherwise
+	 */
+	@Modifying
+	@Query("update RefreshToken r set r.rotated = true where r.id = :id and r.rotated = false")
+	int markRotated(@Param("id") Long id);
+
+	@Modifying
+	@Query("delete from RefreshToken r where r.familyId = :familyId")
+	int deleteByFamily(@Param("familyId") String familyId);
+
+	@Modifying
+	@Query("delete from RefreshToken r where r.expiresAt < :now")
+	int deleteExpired(@Param("now") Instant now);
+
+}
@@ -0,0 +1,25 @@
+package com.farukgenc.boilerplate.springboot.repository;
+
+import com.farukgenc.boilerplate.springboot.model.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+	List<RevokedToken> findByRevokedAtGreaterThanEqualAndExpiresAtAfter(Instant revokedSince, Instant now);
+
+	@Modifying
+	@Query("delete from RevokedToken r where r.expiresAt < :now")
+	int deleteExpired(@Param("now") Instant now);
+
+}
@@ -0,0 +1,14 @@
+package com.farukgenc.boilerplate.springboot.repository;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+public interface UserIdentityView {
+
+	String getUsername();
+
+	String getEmail();
+
+}
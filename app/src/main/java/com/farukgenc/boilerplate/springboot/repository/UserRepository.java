@@ -0,0 +1,52 @@
+package com.farukgenc.boilerplate.springboot.repository;
+
+import com.farukgenc.boilerplate.springboot.model.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Created on Ağustos, 2020
+ *
+ * @author Faruk
+ */
+public interface UserRepository extends JpaRepository<User, Long> {
+
+	User findByUsername(String username);
+
+	boolean existsByEmail(String email);
+
+	boolean existsByUsername(String username);
+
+	@Query("select u.username from User u where u.username in :usernames")
+	Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+	@Query("select u.email from User u where u.email in :emails")
+	Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+	List<User> findByTokenVersionGreaterThan(int tokenVersion);
+
+	@Query("select u.username as username, u.email as email from User u")
+	Stream<UserIdentityView> streamAllIdentities();
+
+	@Query("select u.lastLoginAt as lastLoginAt, u.loginCount as loginCount from User u where u.username = :username")
+	LoginActivityView findLoginActivityByUsername(@Param("username") String username);
+
+	@Query("select u.tokenVersion from User u where u.username = :username")
+	Integer findTokenVersionByUsername(@Param("username") String username);
+
+	@Modifying
+	@Query("update User u set u.password = :password where u.username = :username")
+	int updatePassword(@Param("username") String username, @Param("password") String password);
+
+	@Modifying
+	@Query("update User u set u.tokenVersion = u.tokenVersion + 1 where u.username = :username")
+	int incrementTokenVersion(@Param("username") String username);
+
+}
@@ -0,0 +1,46 @@
+package com.farukgenc.boilerplate.springboot.security.audit;
+
+import com.farukgenc.boilerplate.springboot.repository.AuditEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Created on October, 2026
+ *
+ * Deletes audit events older than audit.retention every hour. Kept apart from SecurityAuditLog so that the publishing
+ * path is not behind a transactional proxy.
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditEventRetention {
+
+	private final AuditEventRepository auditEventRepository;
+
+	private final AuditProperties auditProperties;
+
+	@Transactional
+	@Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1H")
+	public void deleteExpiredEvents() {
+
+		final Duration retention = auditProperties.getRetention();
+
+		if (Objects.isNull(retention) || retention.isZero() || retention.isNegative()) {
+			return;
+		}
+
+		final int deletedEvents = auditEventRepository.deleteOccurredBefore(Instant.now().minus(retention));
+
+		log.info("{} audit events older than {} deleted.", deletedEvents, retention);
+	}
+
+}
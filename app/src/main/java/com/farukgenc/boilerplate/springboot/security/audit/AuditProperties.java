@@ -0,0 +1,49 @@
+package com.farukgenc.boilerplate.springboot.security.audit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "audit")
+public class AuditProperties {
+
+	/**
+	 * Events that do not fit are dropped and counted as audit.events.dropped, requests never wait for the writer.
+	 */
+	private int bufferCapacity = 8192;
+
+	private int batchSize = 500;
+
+	/**
+	 * How long the writer waits for more events once the buffer has been drained.
+	 */
+	private Duration flushInterval = Duration.ofSeconds(1);
+
+	/**
+	 * Writes events to the AUDIT_EVENTS table.
+	 */
+	private boolean tableEnabled = true;
+
+	/**
+	 * Rows of AUDIT_EVENTS older than this are deleted every hour. Zero keeps them, for when retention is handled
+	 * outside the application.
+	 */
+	private Duration retention = Duration.ofDays(90);
+
+	/**
+	 * Writes events as JSON lines to the "audit" logger.
+	 */
+	private boolean logEnabled;
+
+}
@@ -0,0 +1,201 @@
+package com.farukgenc.boilerplate.springboot.security.audit;
+
+import com.farukgenc.boilerplate.springboot.model.AuditEvent;
+import com.farukgenc.boilerplate.springboot.repository.AuditEventRepository;
+import com.farukgenc.boilerplate.springboot.utils.RingBuffer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Created on October, 2026
+ *
+ * Security events are put into a lock-free ring buffer by the request threads and written in batches by a single
+ * background thread, to the AUDIT_EVENTS table and/or as JSON lines to the "audit" logger. Publishing never blocks and
+ * never touches an appender, when the buffer is full the event is dropped and counted.
+ *
+ * The sinks are written independently. When a batch can not be inserted, its events are inserted one by one, so only
+ * the events that can not be stored at all are dropped.
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Component
+public class SecurityAuditLog implements InitializingBean, DisposableBean {
+
+	private static final Logger AUDIT_LOGGER = LoggerFactory.getLogger("audit");
+
+	/**
+	 * Length of the username and detail columns of AUDIT_EVENTS.
+	 */
+	private static final int MAXIMUM_COLUMN_LENGTH = 255;
+
+	private final AuditEventRepository auditEventRepository;
+
+	private final AuditProperties auditProperties;
+
+	private final ObjectMapper objectMapper;
+
+	private final RingBuffer<SecurityEvent> ringBuffer;
+
+	private final Counter writtenCounter;
+
+	private final Counter droppedCounter;
+
+	private final Thread writer;
+
+	private volatile boolean running;
+
+	public SecurityAuditLog(AuditEventRepository auditEventRepository, AuditProperties auditProperties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+
+		this.auditEventRepository = auditEventRepository;
+		this.auditProperties = auditProperties;
+		this.objectMapper = objectMapper;
+		this.ringBuffer = new RingBuffer<>(auditProperties.getBufferCapacity());
+		this.writer = new CustomizableThreadFactory("security-audit-").newThread(this::writeEvents);
+
+		//@formatter:off
+		this.writtenCounter = Counter.builder("audit.events.written").description("Security events written").register(meterRegistry);
+		this.droppedCounter = Counter.builder("audit.events.dropped").description("Security events dropped, because the buffer was full or writing failed").register(meterRegistry);
+		Gauge.builder("audit.events.buffered", ringBuffer, RingBuffer::size).description("Security events waiting to be written").register(meterRegistry);
+		//@formatter:on
+	}
+
+	public void publish(SecurityEventType type, String username, String detail) {
+
+		if (!ringBuffer.offer(new SecurityEvent(type, username, detail, Instant.now()))) {
+			droppedCounter.increment();
+		}
+	}
+
+	/**
+	 * Writes the buffered events up to one batch, the writer thread calls this continuously.
+	 *
+	 * @return number of events taken from the buffer
+	 */
+	public synchronized int flush() {
+
+		final List<SecurityEvent> events = new ArrayList<>();
+		final int drained = ringBuffer.drainTo(events, auditProperties.getBatchSize());
+
+		if (drained == 0) {
+			return 0;
+		}
+
+		final int tableFailures = auditProperties.isTableEnabled() ? writeToTable(events) : 0;
+		final int logFailures = auditProperties.isLogEnabled() ? writeToLog(events) : 0;
+
+		// An event lost by either sink is counted as dropped once
+		final int dropped = Math.min(drained, Math.max(tableFailures, logFailures));
+		writtenCounter.increment(drained - dropped);
+		droppedCounter.increment(dropped);
+
+		return drained;
+	}
+
+	/**
+	 * @return number of events that could not be inserted
+	 */
+	private int writeToTable(List<SecurityEvent> events) {
+
+		try {
+			auditEventRepository.saveAll(events.stream().map(SecurityAuditLog::toAuditEvent).collect(Collectors.toList()));
+			return 0;
+		}
+		catch (RuntimeException e) {
+			log.warn("{} security events could not be written in one batch, writing them one by one : {}", events.size(), e.getMessage());
+		}
+
+		int failures = 0;
+		for (SecurityEvent event : events) {
+			try {
+				auditEventRepository.save(toAuditEvent(event));
+			}
+			catch (RuntimeException e) {
+				log.error("Security event {} of {} could not be written : {}", event.getType(), event.getUsername(), e.getMessage());
+				failures++;
+			}
+		}
+
+		return failures;
+	}
+
+	/**
+	 * @return number of events that could not be logged
+	 */
+	private int writeToLog(List<SecurityEvent> events) {
+
+		int failures = 0;
+		for (SecurityEvent event : events) {
+			try {
+				AUDIT_LOGGER.info(objectMapper.writeValueAsString(event));
+			}
+			catch (JsonProcessingException | RuntimeException e) {
+				log.error("Security event {} of {} could not be logged : {}", event.getType(), event.getUsername(), e.getMessage());
+				failures++;
+			}
+		}
+
+		return failures;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+
+		running = true;
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+
+		running = false;
+		LockSupport.unpark(writer);
+		writer.join(auditProperties.getFlushInterval().toMillis() * 2);
+
+		while (flush() > 0) {
+			// Events published while the writer was stopping
+		}
+	}
+
+	private void writeEvents() {
+
+		final long flushIntervalNanos = auditProperties.getFlushInterval().toNanos();
+
+		while (running) {
+			if (flush() < auditProperties.getBatchSize()) {
+				LockSupport.parkNanos(flushIntervalNanos);
+			}
+		}
+	}
+
+	private static AuditEvent toAuditEvent(SecurityEvent event) {
+
+		//@formatter:off
+		return AuditEvent.builder()
+				.type(event.getType())
+				.username(StringUtils.truncate(event.getUsername(), MAXIMUM_COLUMN_LENGTH))
+				.detail(StringUtils.truncate(event.getDetail(), MAXIMUM_COLUMN_LENGTH))
+				.occurredAt(event.getOccurredAt())
+				.build();
+		//@formatter:on
+	}
+
+}
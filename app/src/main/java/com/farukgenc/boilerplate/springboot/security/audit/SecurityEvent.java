@@ -0,0 +1,25 @@
+package com.farukgenc.boilerplate.springboot.security.audit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Getter
+@RequiredArgsConstructor
+public final class SecurityEvent {
+
+	private final SecurityEventType type;
+
+	private final String username;
+
+	private final String detail;
+
+	private final Instant occurredAt;
+
+}
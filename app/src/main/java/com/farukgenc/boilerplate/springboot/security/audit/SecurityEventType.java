@@ -0,0 +1,25 @@
+package com.farukgenc.boilerplate.springboot.security.audit;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+public enum SecurityEventType {
+
+	LOGIN_SUCCESS,
+
+	LOGIN_FAILURE,
+
+	LOGIN_THROTTLED,
+
+	REGISTRATION,
+
+	/**
+	 * Token presented to a protected path was not accepted, the detail is the outcome tag of the filter.
+	 */
+	TOKEN_REJECTED,
+
+	TOKEN_REVOKED
+
+}
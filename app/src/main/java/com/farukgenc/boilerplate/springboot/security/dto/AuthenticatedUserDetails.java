@@ -0,0 +1,50 @@
+package com.farukgenc.boilerplate.springboot.security.dto;
+
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtClaimsSource;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created on October, 2026
+ *
+ * Authenticated principal that carries everything needed to mint a token, so no further lookup is required after
+ * authentication.
+ *
+ * @author Faruk
+ */
+@Getter
+public class AuthenticatedUserDetails extends User implements JwtClaimsSource {
+
+	private static final Map<UserRole, List<GrantedAuthority>> ROLE_AUTHORITIES = createRoleAuthorities();
+
+	private final UserRole userRole;
+
+	private final int tokenVersion;
+
+	public AuthenticatedUserDetails(String username, String password, UserRole userRole, int tokenVersion) {
+
+		super(username, password, ROLE_AUTHORITIES.get(userRole));
+
+		this.userRole = userRole;
+		this.tokenVersion = tokenVersion;
+	}
+
+	private static Map<UserRole, List<GrantedAuthority>> createRoleAuthorities() {
+
+		final Map<UserRole, List<GrantedAuthority>> roleAuthorities = new EnumMap<>(UserRole.class);
+		for (UserRole userRole : UserRole.values()) {
+			roleAuthorities.put(userRole, Collections.singletonList(new SimpleGrantedAuthority(userRole.name())));
+		}
+
+		return roleAuthorities;
+	}
+
+}
@@ -1,6 +1,7 @@
 package com.farukgenc.boilerplate.springboot.security.dto;
 
 import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtClaimsSource;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -13,7 +14,7 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-public class AuthenticatedUserDto {
+public class AuthenticatedUserDto implements JwtClaimsSource {
 
 	private String name;
 
@@ -23,4 +24,6 @@ public class AuthenticatedUserDto {
 
 	private UserRole userRole;
 
+	private int tokenVersion;
+
 }
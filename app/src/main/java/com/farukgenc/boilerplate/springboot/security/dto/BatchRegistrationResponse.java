@@ -0,0 +1,25 @@
+package com.farukgenc.boilerplate.springboot.security.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class BatchRegistrationResponse {
+
+	private int registeredCount;
+
+	private int rejectedCount;
+
+	private List<BatchRegistrationResult> results;
+
+}
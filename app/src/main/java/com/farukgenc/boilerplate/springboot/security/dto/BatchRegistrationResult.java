@@ -0,0 +1,33 @@
+package com.farukgenc.boilerplate.springboot.security.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class BatchRegistrationResult {
+
+	/**
+	 * Position of the item in the request, starting from 0.
+	 */
+	private int index;
+
+	private String username;
+
+	private boolean registered;
+
+	/**
+	 * The item was not registered because the server was busy, sending it again later may succeed.
+	 */
+	private boolean retryable;
+
+	private String message;
+
+}
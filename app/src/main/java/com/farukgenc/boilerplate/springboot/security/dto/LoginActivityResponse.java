@@ -0,0 +1,25 @@
+package com.farukgenc.boilerplate.springboot.security.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class LoginActivityResponse {
+
+	private String username;
+
+	private Instant lastLoginAt;
+
+	private long loginCount;
+
+}
@@ -1,5 +1,6 @@
 package com.farukgenc.boilerplate.springboot.security.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,4 +17,11 @@ public class LoginResponse {
 
 	private String token;
 
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private String refreshToken;
+
+	public LoginResponse(String token) {
+		this.token = token;
+	}
+
 }
@@ -0,0 +1,22 @@
+package com.farukgenc.boilerplate.springboot.security.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotEmpty;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class RefreshTokenRequest {
+
+	@NotEmpty(message = "{refresh_token_not_empty}")
+	private String refreshToken;
+
+}
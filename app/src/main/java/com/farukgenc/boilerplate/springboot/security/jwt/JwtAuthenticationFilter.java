@@ -0,0 +1,152 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityAuditLog;
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityEventType;
+import com.farukgenc.boilerplate.springboot.security.dto.AuthenticatedUserDetails;
+import com.farukgenc.boilerplate.springboot.security.service.TokenRevocationRegistry;
+import com.farukgenc.boilerplate.springboot.security.service.TokenVersionRegistry;
+import com.farukgenc.boilerplate.springboot.security.service.UserDetailsServiceImpl;
+import com.farukgenc.boilerplate.springboot.security.utils.AuthenticationOutcome;
+import com.farukgenc.boilerplate.springboot.security.utils.AuthenticationTimer;
+import com.farukgenc.boilerplate.springboot.security.utils.SecurityConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Created on Ağustos, 2020
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Service
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+	/**
+	 * One in this many successful authentications is logged at debug level.
+	 */
+	private static final int AUTHENTICATION_LOG_SAMPLING = 100;
+
+	private final JwtProperties jwtProperties;
+
+	private final VerifiedTokenCache verifiedTokenCache;
+
+	private final TokenVersionRegistry tokenVersionRegistry;
+
+	private final TokenRevocationRegistry tokenRevocationRegistry;
+
+	private final UserDetailsServiceImpl userDetailsService;
+
+	private final SecurityAuditLog securityAuditLog;
+
+	private final AuthenticationTimer filterTimer;
+
+	private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
+
+	public JwtAuthenticationFilter(JwtProperties jwtProperties, VerifiedTokenCache verifiedTokenCache, TokenVersionRegistry tokenVersionRegistry, TokenRevocationRegistry tokenRevocationRegistry, UserDetailsServiceImpl userDetailsService, SecurityAuditLog securityAuditLog, MeterRegistry meterRegistry) {
+
+		this.jwtProperties = jwtProperties;
+		this.verifiedTokenCache = verifiedTokenCache;
+		this.tokenVersionRegistry = tokenVersionRegistry;
+		this.tokenRevocationRegistry = tokenRevocationRegistry;
+		this.userDetailsService = userDetailsService;
+		this.securityAuditLog = securityAuditLog;
+
+		//@formatter:off
+		this.filterTimer = new AuthenticationTimer(meterRegistry, "auth.filter", "Time spent in the token filter, without the rest of the chain",
+				AuthenticationOutcome.NO_TOKEN, AuthenticationOutcome.VALID, AuthenticationOutcome.EXPIRED, AuthenticationOutcome.BAD_SIGNATURE,
+				AuthenticationOutcome.INVALID_CLAIM, AuthenticationOutcome.MALFORMED, AuthenticationOutcome.INVALIDATED, AuthenticationOutcome.REVOKED, AuthenticationOutcome.USER_MISSING);
+		//@formatter:on
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain) throws IOException, ServletException {
+
+		final long start = System.nanoTime();
+		final AuthenticationOutcome outcome;
+		try {
+			outcome = authenticate(req);
+		}
+		catch (UsernameNotFoundException e) {
+			filterTimer.record(start, AuthenticationOutcome.USER_MISSING);
+			throw e;
+		}
+		filterTimer.record(start, outcome);
+
+		chain.doFilter(req, res);
+	}
+
+	private AuthenticationOutcome authenticate(HttpServletRequest req) {
+
+		final String header = req.getHeader(SecurityConstants.HEADER_STRING);
+		if (Objects.isNull(header) || !header.startsWith(SecurityConstants.TOKEN_PREFIX)) {
+			return AuthenticationOutcome.NO_TOKEN;
+		}
+
+		final String authToken = header.substring(SecurityConstants.TOKEN_PREFIX.length());
+		final VerifiedToken verifiedToken;
+		try {
+			verifiedToken = verifiedTokenCache.getVerifiedToken(authToken);
+		}
+		catch (JWTVerificationException e) {
+			final AuthenticationOutcome outcome = AuthenticationOutcome.of(e);
+			securityAuditLog.publish(SecurityEventType.TOKEN_REJECTED, null, outcome.getTagValue());
+			log.debug("Authentication Exception : {}", e.getMessage());
+			return outcome;
+		}
+
+		if (!tokenVersionRegistry.isCurrent(verifiedToken)) {
+			securityAuditLog.publish(SecurityEventType.TOKEN_REJECTED, verifiedToken.getUsername(), AuthenticationOutcome.INVALIDATED.getTagValue());
+			return AuthenticationOutcome.INVALIDATED;
+		}
+
+		if (tokenRevocationRegistry.isRevoked(verifiedToken)) {
+			securityAuditLog.publish(SecurityEventType.TOKEN_REJECTED, verifiedToken.getUsername(), AuthenticationOutcome.REVOKED.getTagValue());
+			return AuthenticationOutcome.REVOKED;
+		}
+
+		final SecurityContext securityContext = SecurityContextHolder.getContext();
+
+		if (Objects.isNull(securityContext.getAuthentication())) {
+
+			final String username = verifiedToken.getUsername();
+			final UserDetails userDetails = getUserDetails(verifiedToken);
+
+			final UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+			authentication.setDetails(authenticationDetailsSource.buildDetails(req));
+			if (log.isDebugEnabled() && ThreadLocalRandom.current().nextInt(AUTHENTICATION_LOG_SAMPLING) == 0) {
+				log.debug("Authentication successful. Logged in username : {} ", username);
+			}
+			securityContext.setAuthentication(authentication);
+		}
+
+		return AuthenticationOutcome.VALID;
+	}
+
+	private UserDetails getUserDetails(VerifiedToken verifiedToken) {
+
+		if (jwtProperties.isStatelessAuthentication()) {
+			return new AuthenticatedUserDetails(verifiedToken.getUsername(), StringUtils.EMPTY, verifiedToken.getUserRole(), verifiedToken.getTokenVersion());
+		}
+
+		return userDetailsService.loadUserByUsername(verifiedToken.getUsername());
+	}
+
+}
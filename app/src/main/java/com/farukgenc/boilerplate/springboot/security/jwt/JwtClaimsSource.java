@@ -0,0 +1,20 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+
+/**
+ * Created on October, 2026
+ *
+ * Minimal view of a user that is needed to mint a token.
+ *
+ * @author Faruk
+ */
+public interface JwtClaimsSource {
+
+	String getUsername();
+
+	UserRole getUserRole();
+
+	int getTokenVersion();
+
+}
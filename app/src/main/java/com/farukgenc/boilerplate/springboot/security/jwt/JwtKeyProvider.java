@@ -0,0 +1,320 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.ECDSAKeyProvider;
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Created on October, 2026
+ *
+ * Loads the signing keys configured in {@link JwtProperties}. For RS256 and ES256 the key directory is read again every
+ * jwt.keys.refreshInterval, a changed directory replaces the key set, so keys can be added, promoted to signing and
+ * retired without a restart.
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Component
+public class JwtKeyProvider {
+
+	private static final String PUBLIC_KEY_SUFFIX = ".pub";
+
+	private static final String PRIVATE_KEY_SUFFIX = ".key";
+
+	private static final String EC_CURVE = "secp256r1";
+
+	private static final int EC_COORDINATE_BYTES = 32;
+
+	private static final int RSA_KEY_SIZE = 2048;
+
+	private final JwtProperties jwtProperties;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private volatile JwtKeySet keySet;
+
+	private volatile String keyDirectoryFingerprint;
+
+	public JwtKeyProvider(JwtProperties jwtProperties) throws IOException, GeneralSecurityException {
+
+		this.jwtProperties = jwtProperties;
+
+		final String fingerprint = isKeyDirectoryConfigured() ? fingerprint(Paths.get(jwtProperties.getKeys().getLocation())) : null;
+		this.keySet = loadKeySet();
+		this.keyDirectoryFingerprint = fingerprint;
+	}
+
+	public JwtKeySet getKeySet() {
+		return keySet;
+	}
+
+	public Algorithm getAlgorithm() {
+		return keySet.getAlgorithm();
+	}
+
+	@Scheduled(initialDelayString = "${jwt.keys.refreshInterval:PT1M}", fixedDelayString = "${jwt.keys.refreshInterval:PT1M}")
+	public void reloadKeys() {
+
+		if (!isKeyDirectoryConfigured()) {
+			return;
+		}
+
+		try {
+			// Taken before reading, so a change while reading is picked up by the next run
+			final String fingerprint = fingerprint(Paths.get(jwtProperties.getKeys().getLocation()));
+			if (fingerprint.equals(keyDirectoryFingerprint)) {
+				return;
+			}
+
+			keySet = loadKeySet();
+			// Recorded only once the keys are in use, a directory that failed to load is read again on the next run
+			keyDirectoryFingerprint = fingerprint;
+			log.info("Signing keys reloaded, tokens are signed with {}.", keySet.getSigningKeyId());
+		}
+		catch (IOException | GeneralSecurityException | IllegalStateException e) {
+			log.error("Signing keys could not be reloaded, the previous keys are kept : {}", e.getMessage());
+		}
+	}
+
+	private JwtKeySet loadKeySet() throws IOException, GeneralSecurityException {
+
+		final JwtProperties.SigningAlgorithm signingAlgorithm = jwtProperties.getAlgorithm();
+
+		if (signingAlgorithm == JwtProperties.SigningAlgorithm.HS256) {
+			final Algorithm algorithm = Algorithm.HMAC256(jwtProperties.getSecretKey().getBytes());
+			return createKeySet(algorithm, null, Collections.emptyMap());
+		}
+
+		final Map<String, PublicKey> publicKeys = new TreeMap<>();
+		final Map<String, PrivateKey> privateKeys = new TreeMap<>();
+
+		if (isKeyDirectoryConfigured()) {
+			final Path keyDirectory = Paths.get(jwtProperties.getKeys().getLocation());
+			readKeyDirectory(keyDirectory, publicKeys, privateKeys);
+		}
+		else {
+			final String keyId = "ephemeral-" + UUID.randomUUID();
+			final KeyPair keyPair = generateKeyPair(signingAlgorithm);
+			publicKeys.put(keyId, keyPair.getPublic());
+			privateKeys.put(keyId, keyPair.getPrivate());
+			log.warn("No jwt.keys.location configured, tokens are signed with the ephemeral key {} and become invalid on restart!", keyId);
+		}
+
+		if (privateKeys.isEmpty()) {
+			throw new IllegalStateException("No private key found in " + jwtProperties.getKeys().getLocation());
+		}
+
+		final String signingKeyId = ((TreeMap<String, PrivateKey>) privateKeys).lastKey();
+		final PrivateKey signingKey = privateKeys.get(signingKeyId);
+
+		final Algorithm algorithm = createAlgorithm(signingAlgorithm, Collections.unmodifiableMap(publicKeys), signingKeyId, signingKey);
+
+		return createKeySet(algorithm, signingKeyId, publicKeys);
+	}
+
+	private void readKeyDirectory(Path keyDirectory, Map<String, PublicKey> publicKeys, Map<String, PrivateKey> privateKeys) throws IOException, GeneralSecurityException {
+
+		final KeyFactory keyFactory = KeyFactory.getInstance(getKeyAlgorithm(jwtProperties.getAlgorithm()));
+
+		for (Path publicKeyFile : listFiles(keyDirectory, PUBLIC_KEY_SUFFIX)) {
+
+			final String fileName = publicKeyFile.getFileName().toString();
+			final String keyId = fileName.substring(0, fileName.length() - PUBLIC_KEY_SUFFIX.length());
+			publicKeys.put(keyId, keyFactory.generatePublic(new X509EncodedKeySpec(readPem(publicKeyFile))));
+
+			final Path privateKeyFile = keyDirectory.resolve(keyId + PRIVATE_KEY_SUFFIX);
+			if (Files.exists(privateKeyFile)) {
+				privateKeys.put(keyId, keyFactory.generatePrivate(new PKCS8EncodedKeySpec(readPem(privateKeyFile))));
+			}
+		}
+	}
+
+	private JwtKeySet createKeySet(Algorithm algorithm, String signingKeyId, Map<String, PublicKey> publicKeys) throws GeneralSecurityException, JsonProcessingException {
+
+		final List<Map<String, Object>> jwkList = publicKeys.entrySet().stream().map(entry -> toJwk(entry.getKey(), entry.getValue())).collect(Collectors.toList());
+		final byte[] jwks = objectMapper.writeValueAsBytes(Collections.singletonMap("keys", jwkList));
+
+		final byte[] digest = MessageDigest.getInstance("SHA-256").digest(jwks);
+		final String jwksEtag = Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+
+		return new JwtKeySet(algorithm, signingKeyId, jwks, jwksEtag);
+	}
+
+	private Map<String, Object> toJwk(String keyId, PublicKey publicKey) {
+
+		final Map<String, Object> jwk = new LinkedHashMap<>();
+		jwk.put("kid", keyId);
+		jwk.put("use", "sig");
+		jwk.put("alg", jwtProperties.getAlgorithm().name());
+
+		if (publicKey instanceof RSAPublicKey) {
+			final RSAPublicKey rsaPublicKey = (RSAPublicKey) publicKey;
+			jwk.put("kty", "RSA");
+			jwk.put("n", encodeUnsigned(rsaPublicKey.getModulus(), 0));
+			jwk.put("e", encodeUnsigned(rsaPublicKey.getPublicExponent(), 0));
+		}
+		else {
+			final ECPublicKey ecPublicKey = (ECPublicKey) publicKey;
+			jwk.put("kty", "EC");
+			jwk.put("crv", "P-256");
+			jwk.put("x", encodeUnsigned(ecPublicKey.getW().getAffineX(), EC_COORDINATE_BYTES));
+			jwk.put("y", encodeUnsigned(ecPublicKey.getW().getAffineY(), EC_COORDINATE_BYTES));
+		}
+
+		return jwk;
+	}
+
+	private boolean isKeyDirectoryConfigured() {
+		return jwtProperties.getAlgorithm() != JwtProperties.SigningAlgorithm.HS256 && StringUtils.isNotBlank(jwtProperties.getKeys().getLocation());
+	}
+
+	private static Algorithm createAlgorithm(JwtProperties.SigningAlgorithm signingAlgorithm, Map<String, PublicKey> publicKeys, String signingKeyId, PrivateKey signingKey) {
+
+		if (signingAlgorithm == JwtProperties.SigningAlgorithm.RS256) {
+			return Algorithm.RSA256(new RSAKeyProvider() {
+
+				@Override
+				public RSAPublicKey getPublicKeyById(String keyId) {
+					return (RSAPublicKey) getPublicKey(publicKeys, keyId);
+				}
+
+				@Override
+				public RSAPrivateKey getPrivateKey() {
+					return (RSAPrivateKey) signingKey;
+				}
+
+				@Override
+				public String getPrivateKeyId() {
+					return signingKeyId;
+				}
+			});
+		}
+
+		return Algorithm.ECDSA256(new ECDSAKeyProvider() {
+
+			@Override
+			public ECPublicKey getPublicKeyById(String keyId) {
+				return (ECPublicKey) getPublicKey(publicKeys, keyId);
+			}
+
+			@Override
+			public ECPrivateKey getPrivateKey() {
+				return (ECPrivateKey) signingKey;
+			}
+
+			@Override
+			public String getPrivateKeyId() {
+				return signingKeyId;
+			}
+		});
+	}
+
+	private static PublicKey getPublicKey(Map<String, PublicKey> publicKeys, String keyId) {
+		return Objects.isNull(keyId) ? null : publicKeys.get(keyId);
+	}
+
+	private static KeyPair generateKeyPair(JwtProperties.SigningAlgorithm signingAlgorithm) throws GeneralSecurityException {
+
+		final KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(getKeyAlgorithm(signingAlgorithm));
+
+		if (signingAlgorithm == JwtProperties.SigningAlgorithm.RS256) {
+			keyPairGenerator.initialize(RSA_KEY_SIZE);
+		}
+		else {
+			keyPairGenerator.initialize(new ECGenParameterSpec(EC_CURVE));
+		}
+
+		return keyPairGenerator.generateKeyPair();
+	}
+
+	private static String getKeyAlgorithm(JwtProperties.SigningAlgorithm signingAlgorithm) {
+		return signingAlgorithm == JwtProperties.SigningAlgorithm.RS256 ? "RSA" : "EC";
+	}
+
+	private static List<Path> listFiles(Path keyDirectory, String suffix) throws IOException {
+
+		try (Stream<Path> files = Files.list(keyDirectory)) {
+			return files.filter(file -> file.getFileName().toString().endsWith(suffix)).sorted().collect(Collectors.toList());
+		}
+	}
+
+	private static byte[] readPem(Path file) throws IOException {
+
+		final String pem = new String(Files.readAllBytes(file), StandardCharsets.US_ASCII);
+		final String base64 = pem.replaceAll("-----[A-Z ]+-----", StringUtils.EMPTY).replaceAll("\\s", StringUtils.EMPTY);
+
+		return Base64.getDecoder().decode(base64);
+	}
+
+	/**
+	 * Names, sizes and modification times of the key files, to notice changes without parsing the keys.
+	 */
+	private static String fingerprint(Path keyDirectory) throws IOException {
+
+		final StringBuilder fingerprint = new StringBuilder();
+
+		for (Path file : listFiles(keyDirectory, StringUtils.EMPTY)) {
+			fingerprint.append(file.getFileName()).append(':').append(Files.size(file)).append(':').append(Files.getLastModifiedTime(file).toMillis()).append(';');
+		}
+
+		return fingerprint.toString();
+	}
+
+	/**
+	 * Base64url of the unsigned big-endian value, left padded to the given length for EC coordinates.
+	 */
+	private static String encodeUnsigned(BigInteger value, int length) {
+
+		byte[] bytes = value.toByteArray();
+		if (bytes.length > 1 && bytes[0] == 0) {
+			bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+		}
+
+		if (bytes.length < length) {
+			final byte[] padded = new byte[length];
+			System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+			bytes = padded;
+		}
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+
+}
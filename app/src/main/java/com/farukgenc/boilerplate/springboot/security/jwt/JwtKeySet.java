@@ -0,0 +1,33 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Created on October, 2026
+ *
+ * Immutable snapshot of the signing keys. The algorithm resolves public keys by the kid header of a token from the
+ * keys that were parsed when the snapshot was loaded.
+ *
+ * @author Faruk
+ */
+@Getter
+@RequiredArgsConstructor
+public class JwtKeySet {
+
+	private final Algorithm algorithm;
+
+	/**
+	 * Null for HS256, the secret is never published.
+	 */
+	private final String signingKeyId;
+
+	/**
+	 * JSON Web Key Set of the public keys, serialized once per snapshot.
+	 */
+	private final byte[] jwks;
+
+	private final String jwksEtag;
+
+}
@@ -0,0 +1,94 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Created on October, 2022
+ *
+ * @author Faruk
+ */
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+
+	private String issuer;
+
+	/**
+	 * HS256 signs with secretKey. RS256 and ES256 sign with the key pairs of keys.location and publish the public keys
+	 * at /.well-known/jwks.json, so other services can verify tokens themselves.
+	 */
+	private SigningAlgorithm algorithm = SigningAlgorithm.HS256;
+
+	private String secretKey;
+
+	private long expirationMinute;
+
+	/**
+	 * Lifetime of a refresh token, every exchange issues a new one with a full lifetime.
+	 */
+	private long refreshExpirationMinute;
+
+	/**
+	 * Builds the authenticated principal from the verified token claims instead of loading the user from the database.
+	 */
+	private boolean statelessAuthentication;
+
+	private TokenCache tokenCache = new TokenCache();
+
+	private Keys keys = new Keys();
+
+	public enum SigningAlgorithm {
+
+		HS256,
+
+		RS256,
+
+		ES256
+
+	}
+
+	@Getter
+	@Setter
+	public static class TokenCache {
+
+		/**
+		 * Caches verified tokens until their own expiry so repeated requests skip signature verification.
+		 */
+		private boolean enabled;
+
+		private long maximumSize = 10_000;
+
+	}
+
+	@Getter
+	@Setter
+	public static class Keys {
+
+		/**
+		 * Directory with a {kid}.pub file (X.509 PEM) per key and a {kid}.key file (PKCS#8 PEM) for the keys that may
+		 * sign. Tokens are signed with the greatest kid that has a private key, the others are kept for verification.
+		 * When empty, an ephemeral key pair is generated at startup.
+		 */
+		private String location;
+
+		/**
+		 * How often the directory is read again, so keys can be rotated without a restart.
+		 */
+		private Duration refreshInterval = Duration.ofMinutes(1);
+
+		/**
+		 * Max-age of the JWKS response. Publish a new public key at least this long before it starts signing.
+		 */
+		private Duration jwksMaxAge = Duration.ofHours(1);
+
+	}
+
+}
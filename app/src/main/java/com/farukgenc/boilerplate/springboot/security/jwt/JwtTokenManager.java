@@ -0,0 +1,161 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.RegisteredClaims;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.IncorrectClaimException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.security.utils.AuthenticationOutcome;
+import com.farukgenc.boilerplate.springboot.security.utils.AuthenticationTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Created on Ağustos, 2020
+ *
+ * @author Faruk
+ */
+@Component
+public class JwtTokenManager {
+
+	private static final String ROLE_CLAIM = "role";
+
+	private static final String TOKEN_VERSION_CLAIM = "ver";
+
+	private final JwtProperties jwtProperties;
+
+	private final JwtKeyProvider jwtKeyProvider;
+
+	private final AuthenticationTimer verificationTimer;
+
+	/**
+	 * Verifier of the current key set, built again only when the keys are reloaded.
+	 */
+	private volatile KeySetVerifier keySetVerifier;
+
+	public JwtTokenManager(JwtProperties jwtProperties, JwtKeyProvider jwtKeyProvider, MeterRegistry meterRegistry) {
+
+		this.jwtProperties = jwtProperties;
+		this.jwtKeyProvider = jwtKeyProvider;
+		this.keySetVerifier = createVerifier(jwtKeyProvider.getAlgorithm());
+
+		//@formatter:off
+		this.verificationTimer = new AuthenticationTimer(meterRegistry, "auth.jwt.verification", "Signature and claim verification of tokens",
+				AuthenticationOutcome.VALID, AuthenticationOutcome.EXPIRED, AuthenticationOutcome.BAD_SIGNATURE, AuthenticationOutcome.INVALID_CLAIM, AuthenticationOutcome.MALFORMED);
+		//@formatter:on
+	}
+
+	public String generateToken(JwtClaimsSource claimsSource) {
+
+		final String username = claimsSource.getUsername();
+		final UserRole userRole = claimsSource.getUserRole();
+
+		//@formatter:off
+		return JWT.create()
+				.withJWTId(UUID.randomUUID().toString())
+				.withSubject(username)
+				.withIssuer(jwtProperties.getIssuer())
+				.withClaim(ROLE_CLAIM, userRole.name())
+				.withClaim(TOKEN_VERSION_CLAIM, claimsSource.getTokenVersion())
+				.withIssuedAt(new Date())
+				.withExpiresAt(new Date(System.currentTimeMillis() + jwtProperties.getExpirationMinute() * 60 * 1000))
+				.sign(jwtKeyProvider.getAlgorithm());
+		//@formatter:on
+	}
+
+	/**
+	 * Verifies signature, issuer and expiry of the token in a single pass.
+	 *
+	 * @throws JWTVerificationException if the token is not valid
+	 */
+	public VerifiedToken verifyToken(String token) {
+
+		final long start = System.nanoTime();
+		try {
+			final DecodedJWT decodedJWT = getVerifier().verify(token);
+
+			final Claim roleClaim = decodedJWT.getClaim(ROLE_CLAIM);
+			final UserRole userRole = getUserRole(roleClaim);
+
+			final Integer tokenVersionClaim = decodedJWT.getClaim(TOKEN_VERSION_CLAIM).asInt();
+			final int tokenVersion = Objects.isNull(tokenVersionClaim) ? 0 : tokenVersionClaim;
+
+			final VerifiedToken verifiedToken = new VerifiedToken(decodedJWT.getId(), decodedJWT.getSubject(), userRole, tokenVersion, decodedJWT.getIssuedAtAsInstant(), decodedJWT.getExpiresAtAsInstant());
+			verificationTimer.record(start, AuthenticationOutcome.VALID);
+
+			return verifiedToken;
+		}
+		catch (JWTVerificationException e) {
+			verificationTimer.record(start, AuthenticationOutcome.of(e));
+			throw e;
+		}
+	}
+
+	public String getUsernameFromToken(String token) {
+
+		return verifyToken(token).getUsername();
+	}
+
+	public boolean validateToken(String token, String authenticatedUsername) {
+
+		final VerifiedToken verifiedToken = verifyToken(token);
+
+		return verifiedToken.getUsername().equals(authenticatedUsername);
+	}
+
+	private JWTVerifier getVerifier() {
+
+		final Algorithm algorithm = jwtKeyProvider.getAlgorithm();
+
+		KeySetVerifier verifier = keySetVerifier;
+		if (verifier.algorithm != algorithm) {
+			verifier = createVerifier(algorithm);
+			keySetVerifier = verifier;
+		}
+
+		return verifier.jwtVerifier;
+	}
+
+	private KeySetVerifier createVerifier(Algorithm algorithm) {
+
+		//@formatter:off
+		final JWTVerifier jwtVerifier = JWT.require(algorithm)
+				.withIssuer(jwtProperties.getIssuer())
+				.withClaimPresence(RegisteredClaims.SUBJECT)
+				.withClaimPresence(RegisteredClaims.EXPIRES_AT)
+				.withClaimPresence(ROLE_CLAIM)
+				.build();
+		//@formatter:on
+
+		return new KeySetVerifier(algorithm, jwtVerifier);
+	}
+
+	private UserRole getUserRole(Claim roleClaim) {
+
+		try {
+			return UserRole.valueOf(roleClaim.asString());
+		}
+		catch (IllegalArgumentException | NullPointerException e) {
+			throw new IncorrectClaimException("The Claim 'role' value doesn't match a known role.", ROLE_CLAIM, roleClaim);
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static class KeySetVerifier {
+
+		private final Algorithm algorithm;
+
+		private final JWTVerifier jwtVerifier;
+
+	}
+
+}
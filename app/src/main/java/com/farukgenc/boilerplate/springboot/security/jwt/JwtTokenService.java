@@ -0,0 +1,88 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityAuditLog;
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityEventType;
+import com.farukgenc.boilerplate.springboot.security.dto.LoginRequest;
+import com.farukgenc.boilerplate.springboot.security.dto.LoginResponse;
+import com.farukgenc.boilerplate.springboot.security.service.LoginActivityTracker;
+import com.farukgenc.boilerplate.springboot.security.service.LoginThrottle;
+import com.farukgenc.boilerplate.springboot.security.service.RefreshTokenService;
+import com.farukgenc.boilerplate.springboot.security.service.TokenRevocationRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Created on Ağustos, 2020
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JwtTokenService {
+
+	private final JwtTokenManager jwtTokenManager;
+
+	private final AuthenticationManager authenticationManager;
+
+	private final RefreshTokenService refreshTokenService;
+
+	private final VerifiedTokenCache verifiedTokenCache;
+
+	private final TokenRevocationRegistry tokenRevocationRegistry;
+
+	private final SecurityAuditLog securityAuditLog;
+
+	private final LoginActivityTracker loginActivityTracker;
+
+	private final LoginThrottle loginThrottle;
+
+	public LoginResponse getLoginResponse(LoginRequest loginRequest) {
+
+		final String username = loginRequest.getUsername();
+		final String password = loginRequest.getPassword();
+
+		final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(username, password);
+
+		final Authentication authentication;
+		try {
+			authentication = authenticationManager.authenticate(usernamePasswordAuthenticationToken);
+		}
+		catch (AuthenticationException e) {
+			securityAuditLog.publish(SecurityEventType.LOGIN_FAILURE, username, e.getClass().getSimpleName());
+			loginThrottle.recordFailure(username);
+			throw e;
+		}
+
+		final JwtClaimsSource authenticatedUser = (JwtClaimsSource) authentication.getPrincipal();
+		final String token = jwtTokenManager.generateToken(authenticatedUser);
+		final String refreshToken = refreshTokenService.createRefreshToken(authenticatedUser);
+
+		loginActivityTracker.recordLogin(authenticatedUser.getUsername());
+		securityAuditLog.publish(SecurityEventType.LOGIN_SUCCESS, authenticatedUser.getUsername(), null);
+
+		return new LoginResponse(token, refreshToken);
+	}
+
+	/**
+	 * Revokes the access token and, when given, the family of the refresh token that was issued with it.
+	 */
+	public void revokeToken(String token, String refreshToken) {
+
+		final VerifiedToken verifiedToken = verifiedTokenCache.getVerifiedToken(token);
+		tokenRevocationRegistry.revoke(verifiedToken);
+
+		if (StringUtils.isNotEmpty(refreshToken)) {
+			refreshTokenService.revoke(refreshToken);
+		}
+
+		securityAuditLog.publish(SecurityEventType.TOKEN_REVOKED, verifiedToken.getUsername(), null);
+	}
+
+}
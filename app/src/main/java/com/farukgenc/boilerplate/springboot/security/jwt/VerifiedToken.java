@@ -0,0 +1,35 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Created on October, 2026
+ *
+ * Claims of a token whose signature, issuer and expiry have already been verified.
+ *
+ * @author Faruk
+ */
+@Getter
+@RequiredArgsConstructor
+public final class VerifiedToken {
+
+	/**
+	 * The jti claim, null for tokens issued before tokens carried one.
+	 */
+	private final String tokenId;
+
+	private final String username;
+
+	private final UserRole userRole;
+
+	private final int tokenVersion;
+
+	private final Instant issuedAt;
+
+	private final Instant expiresAt;
+
+}
@@ -0,0 +1,111 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Created on October, 2026
+ *
+ * Keeps verified tokens in memory, keyed by a SHA-256 digest of the raw token, until the token itself expires.
+ *
+ * @author Faruk
+ */
+@Component
+public class VerifiedTokenCache {
+
+	private static final String CACHE_NAME = "jwt.verified-tokens";
+
+	private final JwtTokenManager jwtTokenManager;
+
+	private final Cache<String, VerifiedToken> cache;
+
+	private final MessageDigest digestPrototype;
+
+	public VerifiedTokenCache(JwtTokenManager jwtTokenManager, JwtProperties jwtProperties, MeterRegistry meterRegistry) throws NoSuchAlgorithmException {
+
+		this.jwtTokenManager = jwtTokenManager;
+		this.digestPrototype = MessageDigest.getInstance("SHA-256");
+
+		final JwtProperties.TokenCache tokenCache = jwtProperties.getTokenCache();
+		if (!tokenCache.isEnabled()) {
+			this.cache = null;
+			return;
+		}
+
+		//@formatter:off
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(tokenCache.getMaximumSize())
+				.expireAfter(new TokenExpiry())
+				.recordStats()
+				.build();
+		//@formatter:on
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	/**
+	 * @throws JWTVerificationException if the token is not valid
+	 */
+	public VerifiedToken getVerifiedToken(String token) {
+
+		if (Objects.isNull(cache)) {
+			return jwtTokenManager.verifyToken(token);
+		}
+
+		return cache.get(digest(token), key -> jwtTokenManager.verifyToken(token));
+	}
+
+	private String digest(String token) {
+
+		final MessageDigest messageDigest = cloneDigest();
+		final byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+
+		return Base64.getEncoder().withoutPadding().encodeToString(hash);
+	}
+
+	private MessageDigest cloneDigest() {
+
+		try {
+			return (MessageDigest) digestPrototype.clone();
+		}
+		catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+		@Override
+		public long expireAfterCreate(String key, VerifiedToken verifiedToken, long currentTime) {
+
+			final Duration timeToLive = Duration.between(Instant.now(), verifiedToken.getExpiresAt());
+
+			return Math.max(0, timeToLive.toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+		@Override
+		public long expireAfterRead(String key, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+	}
+
+}
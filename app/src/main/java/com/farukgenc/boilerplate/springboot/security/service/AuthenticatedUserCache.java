@@ -0,0 +1,83 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.model.User;
+import com.farukgenc.boilerplate.springboot.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.dto.AuthenticatedUserDto;
+import com.farukgenc.boilerplate.springboot.security.mapper.UserMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Created on October, 2026
+ *
+ * Bounded, TTL based local cache of {@link AuthenticatedUserDto} in front of {@link UserRepository#findByUsername(String)}.
+ * Entries are evicted as soon as a {@link UserChangedEvent} is published for the user.
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Component
+public class AuthenticatedUserCache {
+
+	private static final String CACHE_NAME = "authenticated-users";
+
+	private final UserRepository userRepository;
+
+	private final LoadingCache<String, AuthenticatedUserDto> cache;
+
+	public AuthenticatedUserCache(UserRepository userRepository, UserCacheProperties userCacheProperties, MeterRegistry meterRegistry) {
+
+		this.userRepository = userRepository;
+
+		if (!userCacheProperties.isEnabled()) {
+			this.cache = null;
+			return;
+		}
+
+		//@formatter:off
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(userCacheProperties.getMaximumSize())
+				.expireAfterWrite(userCacheProperties.getTimeToLive())
+				.recordStats()
+				.build(this::loadAuthenticatedUser);
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+		Gauge.builder("cache.hit.ratio", cache, loadingCache -> loadingCache.stats().hitRate())
+				.tag("cache", CACHE_NAME)
+				.register(meterRegistry);
+		//@formatter:on
+	}
+
+	public AuthenticatedUserDto getAuthenticatedUser(String username) {
+
+		if (Objects.isNull(cache)) {
+			return loadAuthenticatedUser(username);
+		}
+
+		return cache.get(username);
+	}
+
+	@EventListener
+	public void onUserChanged(UserChangedEvent userChangedEvent) {
+
+		if (Objects.nonNull(cache)) {
+			cache.invalidate(userChangedEvent.getUsername());
+		}
+	}
+
+	private AuthenticatedUserDto loadAuthenticatedUser(String username) {
+
+		final User user = userRepository.findByUsername(username);
+
+		return UserMapper.INSTANCE.convertToAuthenticatedUserDto(user);
+	}
+
+}
@@ -0,0 +1,29 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "registration-batch")
+public class BatchRegistrationProperties {
+
+	/**
+	 * Number of users validated, hashed and inserted in one transaction.
+	 */
+	private int chunkSize = 500;
+
+	/**
+	 * Items after this many are rejected without being read, bounds the hashing work of one request.
+	 */
+	private int maximumItems = 1_000;
+
+}
@@ -0,0 +1,368 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.exceptions.RegistrationException;
+import com.farukgenc.boilerplate.springboot.model.User;
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityAuditLog;
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityEventType;
+import com.farukgenc.boilerplate.springboot.security.dto.BatchRegistrationResponse;
+import com.farukgenc.boilerplate.springboot.security.dto.BatchRegistrationResult;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationRequest;
+import com.farukgenc.boilerplate.springboot.security.mapper.UserMapper;
+import com.farukgenc.boilerplate.springboot.service.RegistrationMembershipFilter;
+import com.farukgenc.boilerplate.springboot.service.UserValidationService;
+import com.farukgenc.boilerplate.springboot.utils.ExceptionMessageAccessor;
+import com.farukgenc.boilerplate.springboot.utils.GeneralMessageAccessor;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * Created on October, 2026
+ *
+ * Registers users read from a JSON array or NDJSON stream. Items are processed in chunks: each chunk is validated,
+ * checked against existing users with one query per field, hashed in parallel and inserted in one batched
+ * transaction. An item that can not be registered is reported in the response and does not affect the others.
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Service
+public class BatchRegistrationService {
+
+	private static final String EMAIL_ALREADY_EXISTS = "email_already_exists";
+
+	private static final String USERNAME_ALREADY_EXISTS = "username_already_exists";
+
+	private static final String REGISTRATION_SUCCESSFUL = "registration_successful";
+
+	private static final String REGISTRATION_BATCH_TOO_LARGE = "registration_batch_too_large";
+
+	private static final String REGISTRATION_BATCH_MALFORMED_ITEM = "registration_batch_malformed_item";
+
+	private static final String REGISTRATION_BATCH_BUSY = "registration_batch_busy";
+
+	private final UserRepository userRepository;
+
+	private final PasswordEncoder passwordEncoder;
+
+	private final PasswordHashingExecutor passwordHashingExecutor;
+
+	private final UserValidationService userValidationService;
+
+	private final RegistrationMembershipFilter registrationMembershipFilter;
+
+	private final ExceptionMessageAccessor exceptionMessageAccessor;
+
+	private final GeneralMessageAccessor generalMessageAccessor;
+
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	private final Validator validator;
+
+	private final ObjectReader registrationRequestReader;
+
+	private final EntityManager entityManager;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final BatchRegistrationProperties batchRegistrationProperties;
+
+	private final SecurityAuditLog securityAuditLog;
+
+	public BatchRegistrationService(UserRepository userRepository,
+									PasswordEncoder passwordEncoder,
+									PasswordHashingExecutor passwordHashingExecutor,
+									UserValidationService userValidationService,
+									RegistrationMembershipFilter registrationMembershipFilter,
+									ExceptionMessageAccessor exceptionMessageAccessor,
+									GeneralMessageAccessor generalMessageAccessor,
+									ApplicationEventPublisher applicationEventPublisher,
+									Validator validator,
+									ObjectMapper objectMapper,
+									EntityManager entityManager,
+									PlatformTransactionManager transactionManager,
+									BatchRegistrationProperties batchRegistrationProperties,
+									SecurityAuditLog securityAuditLog) {
+
+		this.userRepository = userRepository;
+		this.passwordEncoder = passwordEncoder;
+		this.passwordHashingExecutor = passwordHashingExecutor;
+		this.userValidationService = userValidationService;
+		this.registrationMembershipFilter = registrationMembershipFilter;
+		this.exceptionMessageAccessor = exceptionMessageAccessor;
+		this.generalMessageAccessor = generalMessageAccessor;
+		this.applicationEventPublisher = applicationEventPublisher;
+		this.validator = validator;
+		this.registrationRequestReader = objectMapper.readerFor(RegistrationRequest.class);
+		this.entityManager = entityManager;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchRegistrationProperties = batchRegistrationProperties;
+		this.securityAuditLog = securityAuditLog;
+	}
+
+	/**
+	 * Reads either a JSON array or whitespace separated JSON objects. Reading stops at the first malformed item or
+	 * when the maximum number of items is exceeded; chunks registered before that point stay registered. When the
+	 * password hashing queue is full, the items of that chunk and of the following ones are reported as retryable
+	 * without being registered, and earlier chunks stay registered too.
+	 */
+	public BatchRegistrationResponse registration(InputStream inputStream) throws IOException {
+
+		final int chunkSize = batchRegistrationProperties.getChunkSize();
+		final int maximumItems = batchRegistrationProperties.getMaximumItems();
+
+		final List<BatchRegistrationResult> results = new ArrayList<>();
+		final BatchState batchState = new BatchState();
+		List<PendingRegistration> chunk = new ArrayList<>(chunkSize);
+
+		try (MappingIterator<RegistrationRequest> iterator = registrationRequestReader.readValues(inputStream)) {
+
+			int index = 0;
+			while (true) {
+
+				final RegistrationRequest registrationRequest;
+				try {
+					if (!iterator.hasNextValue()) {
+						break;
+					}
+					registrationRequest = iterator.nextValue();
+				}
+				catch (IOException e) {
+					log.warn("Batch registration stopped at item {} : {}", index, e.getMessage());
+					results.add(rejected(index, null, exceptionMessageAccessor.getMessage(null, REGISTRATION_BATCH_MALFORMED_ITEM)));
+					break;
+				}
+
+				if (index == maximumItems) {
+					results.add(rejected(index, registrationRequest.getUsername(), exceptionMessageAccessor.getMessage(null, REGISTRATION_BATCH_TOO_LARGE, maximumItems)));
+					break;
+				}
+
+				chunk.add(new PendingRegistration(index++, registrationRequest));
+				if (chunk.size() == chunkSize) {
+					registerChunk(chunk, batchState, results);
+					chunk = new ArrayList<>(chunkSize);
+				}
+			}
+		}
+
+		registerChunk(chunk, batchState, results);
+		results.sort(Comparator.comparingInt(BatchRegistrationResult::getIndex));
+
+		final int registeredCount = batchState.registeredCount;
+		log.info("{} users registered in batch, {} rejected", registeredCount, results.size() - registeredCount);
+
+		return new BatchRegistrationResponse(registeredCount, results.size() - registeredCount, results);
+	}
+
+	private void registerChunk(List<PendingRegistration> chunk, BatchState batchState, List<BatchRegistrationResult> results) {
+
+		if (chunk.isEmpty()) {
+			return;
+		}
+
+		// Once the hashing queue has been full, the rest of the batch is not hashed so that other requests get through
+		if (batchState.busy) {
+			chunk.forEach(pending -> results.add(busy(pending)));
+			return;
+		}
+
+		final List<PendingRegistration> accepted = rejectInvalidItems(chunk, batchState, results);
+		final List<PendingRegistration> available = rejectExistingUsers(accepted, results);
+
+		final List<String> encodedPasswords;
+		try {
+			encodedPasswords = passwordHashingExecutor.invokeAll(available, pending -> passwordEncoder.encode(pending.request.getPassword()));
+		}
+		catch (RejectedExecutionException e) {
+			log.warn("Password hashing queue is full, remaining items of the batch are reported as retryable!");
+			batchState.busy = true;
+			available.forEach(pending -> results.add(busy(pending)));
+			return;
+		}
+
+		final List<User> users = new ArrayList<>(available.size());
+		for (int i = 0; i < available.size(); i++) {
+
+			final User user = UserMapper.INSTANCE.convertToUser(available.get(i).request);
+			user.setPassword(encodedPasswords.get(i));
+			user.setUserRole(UserRole.USER);
+			users.add(user);
+		}
+
+		try {
+			transactionTemplate.executeWithoutResult(status -> insertAll(users));
+			for (int i = 0; i < available.size(); i++) {
+				registered(available.get(i), users.get(i), batchState, results);
+			}
+		}
+		catch (DataIntegrityViolationException e) {
+			log.warn("Batch insert failed, registering {} users one by one : {}", users.size(), e.getMessage());
+			registerOneByOne(available, users, batchState, results);
+		}
+	}
+
+	private void insertAll(List<User> users) {
+
+		userRepository.saveAllAndFlush(users);
+
+		// Inserted users are not read again, detach them so that later chunks do not dirty check them
+		entityManager.clear();
+	}
+
+	private List<PendingRegistration> rejectInvalidItems(List<PendingRegistration> chunk, BatchState batchState, List<BatchRegistrationResult> results) {
+
+		final List<PendingRegistration> accepted = new ArrayList<>(chunk.size());
+
+		for (PendingRegistration pending : chunk) {
+
+			final RegistrationRequest registrationRequest = pending.request;
+			final Set<ConstraintViolation<RegistrationRequest>> violations = validator.validate(registrationRequest);
+
+			if (!violations.isEmpty()) {
+				final String message = violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(", "));
+				results.add(rejected(pending.index, registrationRequest.getUsername(), message));
+			}
+			else if (!batchState.emails.add(registrationRequest.getEmail())) {
+				results.add(rejected(pending.index, registrationRequest.getUsername(), exceptionMessageAccessor.getMessage(null, EMAIL_ALREADY_EXISTS)));
+			}
+			else if (!batchState.usernames.add(registrationRequest.getUsername())) {
+				results.add(rejected(pending.index, registrationRequest.getUsername(), exceptionMessageAccessor.getMessage(null, USERNAME_ALREADY_EXISTS)));
+			}
+			else {
+				accepted.add(pending);
+			}
+		}
+
+		return accepted;
+	}
+
+	private List<PendingRegistration> rejectExistingUsers(List<PendingRegistration> accepted, List<BatchRegistrationResult> results) {
+
+		//@formatter:off
+		final Set<String> candidateEmails = accepted.stream()
+				.map(pending -> pending.request.getEmail())
+				.filter(registrationMembershipFilter::mightContainEmail)
+				.collect(Collectors.toSet());
+
+		final Set<String> candidateUsernames = accepted.stream()
+				.map(pending -> pending.request.getUsername())
+				.filter(registrationMembershipFilter::mightContainUsername)
+				.collect(Collectors.toSet());
+		//@formatter:on
+
+		final Set<String> existingEmails = candidateEmails.isEmpty() ? Collections.emptySet() : userRepository.findExistingEmails(candidateEmails);
+		final Set<String> existingUsernames = candidateUsernames.isEmpty() ? Collections.emptySet() : userRepository.findExistingUsernames(candidateUsernames);
+
+		final List<PendingRegistration> available = new ArrayList<>(accepted.size());
+
+		for (PendingRegistration pending : accepted) {
+
+			final RegistrationRequest registrationRequest = pending.request;
+
+			if (existingEmails.contains(registrationRequest.getEmail())) {
+				results.add(rejected(pending.index, registrationRequest.getUsername(), exceptionMessageAccessor.getMessage(null, EMAIL_ALREADY_EXISTS)));
+			}
+			else if (existingUsernames.contains(registrationRequest.getUsername())) {
+				results.add(rejected(pending.index, registrationRequest.getUsername(), exceptionMessageAccessor.getMessage(null, USERNAME_ALREADY_EXISTS)));
+			}
+			else {
+				available.add(pending);
+			}
+		}
+
+		return available;
+	}
+
+	private void registerOneByOne(List<PendingRegistration> available, List<User> users, BatchState batchState, List<BatchRegistrationResult> results) {
+
+		for (int i = 0; i < available.size(); i++) {
+
+			final PendingRegistration pending = available.get(i);
+			final User user = users.get(i);
+			user.setId(null);
+
+			try {
+				userRepository.save(user);
+				registered(pending, user, batchState, results);
+			}
+			catch (DataIntegrityViolationException e) {
+
+				final RuntimeException exception = userValidationService.translateConstraintViolation(pending.request, e);
+				if (!(exception instanceof RegistrationException)) {
+					throw exception;
+				}
+
+				results.add(rejected(pending.index, user.getUsername(), ((RegistrationException) exception).getErrorMessage()));
+			}
+		}
+	}
+
+	private void registered(PendingRegistration pending, User user, BatchState batchState, List<BatchRegistrationResult> results) {
+
+		final String username = user.getUsername();
+
+		registrationMembershipFilter.put(username, user.getEmail());
+		applicationEventPublisher.publishEvent(new UserChangedEvent(username));
+		securityAuditLog.publish(SecurityEventType.REGISTRATION, username, "batch");
+
+		batchState.registeredCount++;
+		results.add(new BatchRegistrationResult(pending.index, username, true, false, generalMessageAccessor.getMessage(null, REGISTRATION_SUCCESSFUL, username)));
+	}
+
+	private static BatchRegistrationResult rejected(int index, String username, String message) {
+
+		return new BatchRegistrationResult(index, username, false, false, message);
+	}
+
+	private BatchRegistrationResult busy(PendingRegistration pending) {
+
+		return new BatchRegistrationResult(pending.index, pending.request.getUsername(), false, true, exceptionMessageAccessor.getMessage(null, REGISTRATION_BATCH_BUSY));
+	}
+
+	@RequiredArgsConstructor
+	private static class PendingRegistration {
+
+		private final int index;
+
+		private final RegistrationRequest request;
+
+	}
+
+	private static class BatchState {
+
+		private final Set<String> usernames = new HashSet<>();
+
+		private final Set<String> emails = new HashSet<>();
+
+		private int registeredCount;
+
+		private boolean busy;
+
+	}
+
+}
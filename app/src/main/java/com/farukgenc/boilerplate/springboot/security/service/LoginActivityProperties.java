@@ -0,0 +1,36 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "login-activity")
+public class LoginActivityProperties {
+
+	/**
+	 * How often pending logins are checked, also used as the schedule of the flush.
+	 */
+	private Duration flushInterval = Duration.ofSeconds(10);
+
+	/**
+	 * Pending logins are written once the oldest of them has waited this long.
+	 */
+	private Duration maximumStaleness = Duration.ofMinutes(1);
+
+	/**
+	 * Pending logins are written earlier when this many users are waiting, also the JDBC batch size.
+	 */
+	private int batchSize = 500;
+
+}
@@ -0,0 +1,200 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.repository.LoginActivityView;
+import com.farukgenc.boilerplate.springboot.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.dto.LoginActivityResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Created on October, 2026
+ *
+ * Keeps lastLoginAt and loginCount of the users without writing on the login path. Logins are coalesced per user in
+ * memory and written with batched JDBC updates, once the oldest pending login is older than the maximum staleness or
+ * enough users are waiting, and on shutdown. Flushed logins are removed from memory only after their transaction
+ * commits, so a failed flush is retried on the next run.
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Component
+public class LoginActivityTracker implements DisposableBean {
+
+	//@formatter:off
+	private static final String UPDATE_LOGIN_ACTIVITY = "update USERS set login_count = coalesce(login_count, 0) + ?, "
+			+ "last_login_at = case when last_login_at is null or last_login_at < ? then ? else last_login_at end "
+			+ "where username = ?";
+	//@formatter:on
+
+	private final UserRepository userRepository;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final LoginActivityProperties loginActivityProperties;
+
+	private final ConcurrentMap<String, PendingLogins> pendingLogins = new ConcurrentHashMap<>();
+
+	/**
+	 * Time of the first login recorded since the last flush, zero when nothing is pending.
+	 */
+	private final AtomicLong pendingSince = new AtomicLong();
+
+	private final Counter writtenCounter;
+
+	public LoginActivityTracker(UserRepository userRepository,
+								JdbcTemplate jdbcTemplate,
+								PlatformTransactionManager transactionManager,
+								LoginActivityProperties loginActivityProperties,
+								MeterRegistry meterRegistry) {
+
+		this.userRepository = userRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.loginActivityProperties = loginActivityProperties;
+
+		//@formatter:off
+		this.writtenCounter = Counter.builder("auth.login.activity.written").description("Users whose login activity was written").register(meterRegistry);
+		Gauge.builder("auth.login.activity.pending", pendingLogins, Map::size).description("Users with logins not written yet").register(meterRegistry);
+		//@formatter:on
+	}
+
+	public void recordLogin(String username) {
+
+		final long now = System.currentTimeMillis();
+
+		pendingLogins.merge(username, new PendingLogins(Instant.ofEpochMilli(now), 1), PendingLogins::plus);
+		pendingSince.compareAndSet(0, now);
+	}
+
+	/**
+	 * Stored activity plus the logins not written yet, does not flush. Waits for a running flush, so the logins it is
+	 * writing are counted exactly once.
+	 */
+	public synchronized Optional<LoginActivityResponse> getLoginActivity(String username) {
+
+		final LoginActivityView loginActivityView = userRepository.findLoginActivityByUsername(username);
+
+		if (Objects.isNull(loginActivityView)) {
+			return Optional.empty();
+		}
+
+		final PendingLogins pending = pendingLogins.get(username);
+
+		if (Objects.isNull(pending)) {
+			return Optional.of(new LoginActivityResponse(username, loginActivityView.getLastLoginAt(), loginActivityView.getLoginCount()));
+		}
+
+		final Instant lastLoginAt = Objects.isNull(loginActivityView.getLastLoginAt()) || loginActivityView.getLastLoginAt().isBefore(pending.getLastLoginAt())
+				? pending.getLastLoginAt() : loginActivityView.getLastLoginAt();
+
+		return Optional.of(new LoginActivityResponse(username, lastLoginAt, loginActivityView.getLoginCount() + pending.getLoginCount()));
+	}
+
+	@Scheduled(initialDelayString = "${login-activity.flush-interval:PT10S}", fixedDelayString = "${login-activity.flush-interval:PT10S}")
+	void flushWhenStale() {
+
+		final long oldestPending = pendingSince.get();
+
+		if (oldestPending == 0) {
+			return;
+		}
+
+		final boolean stale = System.currentTimeMillis() - oldestPending >= loginActivityProperties.getMaximumStaleness().toMillis();
+
+		if (stale || pendingLogins.size() >= loginActivityProperties.getBatchSize()) {
+			flush();
+		}
+	}
+
+	/**
+	 * Writes all pending logins.
+	 *
+	 * @return number of users written
+	 */
+	public synchronized int flush() {
+
+		final long previousPendingSince = pendingSince.getAndSet(0);
+		final List<Map.Entry<String, PendingLogins>> flushed = new ArrayList<>();
+		pendingLogins.forEach((username, pending) -> flushed.add(Map.entry(username, pending)));
+
+		if (flushed.isEmpty()) {
+			return 0;
+		}
+
+		try {
+			transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_LOGIN_ACTIVITY, flushed, loginActivityProperties.getBatchSize(), (preparedStatement, entry) -> {
+
+				final Timestamp lastLoginAt = Timestamp.from(entry.getValue().getLastLoginAt());
+				preparedStatement.setLong(1, entry.getValue().getLoginCount());
+				preparedStatement.setTimestamp(2, lastLoginAt);
+				preparedStatement.setTimestamp(3, lastLoginAt);
+				preparedStatement.setString(4, entry.getKey());
+			}));
+		}
+		catch (DataAccessException e) {
+			log.error("Login activity of {} users could not be written : {}", flushed.size(), e.getMessage());
+			pendingSince.compareAndSet(0, previousPendingSince);
+			return 0;
+		}
+
+		// Logins recorded while writing stay pending
+		flushed.forEach(entry -> pendingLogins.computeIfPresent(entry.getKey(), (username, pending) -> pending == entry.getValue() ? null : pending.minus(entry.getValue())));
+		writtenCounter.increment(flushed.size());
+
+		return flushed.size();
+	}
+
+	@Override
+	public void destroy() {
+
+		final int writtenUsers = flush();
+
+		log.info("Login activity of {} users written on shutdown.", writtenUsers);
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class PendingLogins {
+
+		private final Instant lastLoginAt;
+
+		private final long loginCount;
+
+		PendingLogins plus(PendingLogins other) {
+
+			final Instant latest = lastLoginAt.isBefore(other.lastLoginAt) ? other.lastLoginAt : lastLoginAt;
+
+			return new PendingLogins(latest, loginCount + other.loginCount);
+		}
+
+		PendingLogins minus(PendingLogins flushed) {
+			return new PendingLogins(lastLoginAt, loginCount - flushed.loginCount);
+		}
+
+	}
+
+}
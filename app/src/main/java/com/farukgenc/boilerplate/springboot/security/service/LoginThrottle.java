@@ -0,0 +1,201 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.exceptions.LoginThrottledException;
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityAuditLog;
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityEventType;
+import com.farukgenc.boilerplate.springboot.utils.ExceptionMessageAccessor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Created on October, 2026
+ *
+ * Token buckets of login attempts per username and per client address, checked before a password is matched. Each
+ * bucket is a single theoretical arrival time (GCRA) updated with compare-and-set, so the check takes no lock. Buckets
+ * are dropped once they would be full again, and their number is bounded by login-throttle.maximum-keys.
+ *
+ * Both buckets are checked before either is charged, so a throttled attempt costs nothing. The client address bucket is
+ * charged for every allowed attempt, the username bucket only for failed ones, so knowing a username is not enough to
+ * lock its owner out.
+ *
+ * Usernames are trimmed, lower cased and cut to the length of the username column before they are used as keys, so
+ * case variants share a bucket and oversized names can not inflate the buckets.
+ *
+ * Attempts are counted as auth.login.throttle tagged with key=username|client_address and result=allowed|throttled.
+ *
+ * @author Faruk
+ */
+@Component
+public class LoginThrottle {
+
+	private static final String LOGIN_THROTTLED = "login_throttled";
+
+	private static final int MAXIMUM_USERNAME_LENGTH = 255;
+
+	private final LoginThrottleProperties loginThrottleProperties;
+
+	private final ExceptionMessageAccessor exceptionMessageAccessor;
+
+	private final SecurityAuditLog securityAuditLog;
+
+	private final Bucket usernameBuckets;
+
+	private final Bucket clientAddressBuckets;
+
+	public LoginThrottle(LoginThrottleProperties loginThrottleProperties, ExceptionMessageAccessor exceptionMessageAccessor, SecurityAuditLog securityAuditLog, MeterRegistry meterRegistry) {
+
+		this.loginThrottleProperties = loginThrottleProperties;
+		this.exceptionMessageAccessor = exceptionMessageAccessor;
+		this.securityAuditLog = securityAuditLog;
+
+		final long maximumKeys = loginThrottleProperties.getMaximumKeys();
+		this.usernameBuckets = new Bucket("username", loginThrottleProperties.getUsername(), maximumKeys, meterRegistry);
+		this.clientAddressBuckets = new Bucket("client_address", loginThrottleProperties.getClientAddress(), maximumKeys, meterRegistry);
+	}
+
+	/**
+	 * @throws LoginThrottledException if the username or the client address has no attempts left
+	 */
+	public void checkAttempt(String username, String clientAddress) {
+
+		if (!loginThrottleProperties.isEnabled()) {
+			return;
+		}
+
+		final long now = System.nanoTime();
+
+		final long usernameWait = usernameBuckets.check(toKey(username), now);
+		final long clientAddressWait = clientAddressBuckets.check(clientAddress, now);
+		long wait = Math.max(usernameWait, clientAddressWait);
+
+		if (wait == 0) {
+			// Another attempt from the same address may have taken the last token since the check
+			wait = clientAddressBuckets.tryAcquire(clientAddress, now);
+		}
+
+		if (wait > 0) {
+			securityAuditLog.publish(SecurityEventType.LOGIN_THROTTLED, username, clientAddress);
+			throw new LoginThrottledException(exceptionMessageAccessor.getMessage(null, LOGIN_THROTTLED), Duration.ofNanos(wait));
+		}
+	}
+
+	/**
+	 * Charges the username bucket for an attempt whose credentials were rejected.
+	 */
+	public void recordFailure(String username) {
+
+		if (!loginThrottleProperties.isEnabled()) {
+			return;
+		}
+
+		usernameBuckets.charge(toKey(username), System.nanoTime());
+	}
+
+	private static String toKey(String username) {
+		return StringUtils.truncate(StringUtils.trimToEmpty(username).toLowerCase(Locale.ROOT), MAXIMUM_USERNAME_LENGTH);
+	}
+
+	private static class Bucket {
+
+		private static final Function<String, AtomicLong> NEW_BUCKET = key -> new AtomicLong(Long.MIN_VALUE);
+
+		private final long emissionInterval;
+
+		private final long burstTolerance;
+
+		private final Cache<String, AtomicLong> arrivalTimes;
+
+		private final Counter allowedCounter;
+
+		private final Counter throttledCounter;
+
+		Bucket(String keyType, LoginThrottleProperties.Limit limit, long maximumKeys, MeterRegistry meterRegistry) {
+
+			this.emissionInterval = limit.getRefillInterval().toNanos();
+			this.burstTolerance = emissionInterval * limit.getCapacity();
+
+			//@formatter:off
+			this.arrivalTimes = Caffeine.newBuilder()
+					.maximumSize(maximumKeys)
+					.expireAfterAccess(Duration.ofNanos(burstTolerance))
+					.build();
+
+			this.allowedCounter = Counter.builder("auth.login.throttle").description("Login attempts checked against the throttle")
+					.tag("key", keyType).tag("result", "allowed").register(meterRegistry);
+			this.throttledCounter = Counter.builder("auth.login.throttle").description("Login attempts checked against the throttle")
+					.tag("key", keyType).tag("result", "throttled").register(meterRegistry);
+
+			Gauge.builder("auth.login.throttle.keys", arrivalTimes, Cache::estimatedSize).description("Buckets currently tracked")
+					.tag("key", keyType).register(meterRegistry);
+			//@formatter:on
+		}
+
+		/**
+		 * Does not take a token.
+		 *
+		 * @return 0 if the attempt is allowed, otherwise the nanoseconds until it would be
+		 */
+		long check(String key, long now) {
+
+			final AtomicLong arrivalTime = arrivalTimes.getIfPresent(key);
+			final long wait = Objects.isNull(arrivalTime) ? 0 : getWait(arrivalTime.get(), now);
+
+			if (wait > 0) {
+				throttledCounter.increment();
+			}
+			else {
+				allowedCounter.increment();
+			}
+
+			return wait;
+		}
+
+		/**
+		 * @return 0 if a token was taken, otherwise the nanoseconds until one would be available
+		 */
+		long tryAcquire(String key, long now) {
+
+			final AtomicLong arrivalTime = arrivalTimes.get(key, NEW_BUCKET);
+
+			while (true) {
+
+				final long current = arrivalTime.get();
+				final long wait = getWait(current, now);
+
+				if (wait > 0) {
+					return wait;
+				}
+
+				if (arrivalTime.compareAndSet(current, Math.max(current, now) + emissionInterval)) {
+					return 0;
+				}
+			}
+		}
+
+		/**
+		 * Takes a token even if the bucket is empty, concurrent failures leave it empty rather than in debt.
+		 */
+		void charge(String key, long now) {
+
+			final AtomicLong arrivalTime = arrivalTimes.get(key, NEW_BUCKET);
+			arrivalTime.getAndUpdate(current -> Math.min(Math.max(current, now) + emissionInterval, now + burstTolerance));
+		}
+
+		private long getWait(long arrivalTime, long now) {
+			return Math.max(0, Math.max(arrivalTime, now) + emissionInterval - now - burstTolerance);
+		}
+
+	}
+
+}
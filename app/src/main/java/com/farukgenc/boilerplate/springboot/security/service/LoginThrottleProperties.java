@@ -0,0 +1,57 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "login-throttle")
+public class LoginThrottleProperties {
+
+	private boolean enabled = true;
+
+	private Limit username = new Limit(5, Duration.ofSeconds(12));
+
+	/**
+	 * Client address as seen by the servlet container. Behind a proxy it is taken from X-Forwarded-For, but only when the
+	 * request comes from an address matching server.tomcat.remoteip.internal-proxies.
+	 */
+	private Limit clientAddress = new Limit(20, Duration.ofSeconds(3));
+
+	/**
+	 * Upper bound of usernames and of client addresses tracked at once. The least recently used buckets are dropped
+	 * first, which only lets their next attempts through sooner.
+	 */
+	private long maximumKeys = 100_000;
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Limit {
+
+		/**
+		 * Attempts that can be made at once.
+		 */
+		private int capacity;
+
+		/**
+		 * Time after which one more attempt is allowed.
+		 */
+		private Duration refillInterval;
+
+	}
+
+}
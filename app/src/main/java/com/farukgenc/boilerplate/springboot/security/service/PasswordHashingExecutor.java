@@ -0,0 +1,138 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Created on October, 2026
+ *
+ * CPU sized, bounded executor for password hashing and matching. Only the hashing runs here, callers do their
+ * database work on their own thread and wait for the hash, so the pool size and the queue reflect hashing load alone.
+ * When the queue is full, tasks are rejected immediately instead of piling up, so at most pool size plus queue
+ * capacity request threads wait for a hash. Keep the queue capacity well below server.tomcat.threads.max.
+ *
+ * Queue depth is exported as executor.queued and wait time as executor.idle, tagged name=password-hashing.
+ *
+ * @author Faruk
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+	private static final String EXECUTOR_NAME = "password-hashing";
+
+	private final int poolSize;
+
+	private final ThreadPoolExecutor threadPoolExecutor;
+
+	private final ExecutorService executorService;
+
+	public PasswordHashingExecutor(PasswordHashingProperties passwordHashingProperties, MeterRegistry meterRegistry) {
+
+		this.poolSize = passwordHashingProperties.getPoolSize();
+		final ArrayBlockingQueue<Runnable> workQueue = new ArrayBlockingQueue<>(passwordHashingProperties.getQueueCapacity());
+
+		this.threadPoolExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS, workQueue, new CustomizableThreadFactory(EXECUTOR_NAME + "-"));
+		this.executorService = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, EXECUTOR_NAME);
+	}
+
+	/**
+	 * The locale of the calling request is used by the task too, so its messages are in the language of the request.
+	 *
+	 * @throws RejectedExecutionException if the queue is full
+	 */
+	public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+
+		final LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+		final Locale locale = Objects.isNull(localeContext) ? null : localeContext.getLocale();
+
+		return CompletableFuture.supplyAsync(() -> {
+
+			LocaleContextHolder.setLocale(locale);
+			try {
+				return supplier.get();
+			}
+			finally {
+				LocaleContextHolder.resetLocaleContext();
+			}
+		}, executorService);
+	}
+
+	/**
+	 * Runs the supplier on the pool and waits for its result.
+	 *
+	 * @throws RejectedExecutionException if the queue is full
+	 */
+	public <T> T invoke(Supplier<T> supplier) {
+
+		try {
+			return supplyAsync(supplier).join();
+		}
+		catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Applies the function to all items in parallel, with at most pool size of them in flight so that a large batch
+	 * can not take the whole queue. Nothing is hashed on the calling thread.
+	 *
+	 * @return results in the order of the items
+	 * @throws RejectedExecutionException if the queue is full, items submitted before still complete
+	 */
+	public <T, R> List<R> invokeAll(List<T> items, Function<T, R> function) {
+
+		final Semaphore inFlight = new Semaphore(poolSize);
+		final List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+
+		for (T item : items) {
+
+			inFlight.acquireUninterruptibly();
+
+			final CompletableFuture<R> future;
+			try {
+				future = supplyAsync(() -> function.apply(item));
+			}
+			catch (RejectedExecutionException e) {
+				inFlight.release();
+				throw e;
+			}
+
+			future.whenComplete((result, throwable) -> inFlight.release());
+			futures.add(future);
+		}
+
+		return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+	}
+
+	@Override
+	public void destroy() {
+
+		threadPoolExecutor.shutdown();
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingProperties {
+
+	private int poolSize = Runtime.getRuntime().availableProcessors();
+
+	private int queueCapacity = 100;
+
+	/**
+	 * Sent as Retry-After when the queue is full.
+	 */
+	private Duration retryAfter = Duration.ofSeconds(1);
+
+}
@@ -0,0 +1,161 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.exceptions.RefreshTokenException;
+import com.farukgenc.boilerplate.springboot.model.RefreshToken;
+import com.farukgenc.boilerplate.springboot.repository.RefreshTokenRepository;
+import com.farukgenc.boilerplate.springboot.security.dto.AuthenticatedUserDto;
+import com.farukgenc.boilerplate.springboot.security.dto.LoginResponse;
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtClaimsSource;
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtProperties;
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtTokenManager;
+import com.farukgenc.boilerplate.springboot.utils.ExceptionMessageAccessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Created on October, 2026
+ *
+ * Issues and rotates refresh tokens. Renewing an access token costs a lookup by the SHA-256 hash of the presented
+ * token instead of a password verification. When a token that was already rotated is presented again, its whole family
+ * is revoked, which logs out both the legitimate client and whoever copied the token.
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+	private static final String REFRESH_TOKEN_INVALID = "refresh_token_invalid";
+
+	private static final int TOKEN_BYTES = 32;
+
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	private final RefreshTokenRepository refreshTokenRepository;
+
+	private final UserService userService;
+
+	private final JwtTokenManager jwtTokenManager;
+
+	private final JwtProperties jwtProperties;
+
+	private final ExceptionMessageAccessor exceptionMessageAccessor;
+
+	/**
+	 * Starts a new token family for a successful login.
+	 *
+	 * @return the raw token, it is not stored and can not be recovered later
+	 */
+	@Transactional
+	public String createRefreshToken(JwtClaimsSource claimsSource) {
+		return issue(UUID.randomUUID().toString(), claimsSource.getUsername(), claimsSource.getTokenVersion());
+	}
+
+	/**
+	 * @throws RefreshTokenException if the token is unknown, expired, reused or no longer valid for its user
+	 */
+	@Transactional(noRollbackFor = RefreshTokenException.class)
+	public LoginResponse refresh(String rawToken) {
+
+		final RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken));
+
+		if (Objects.isNull(refreshToken) || refreshToken.getExpiresAt().isBefore(Instant.now())) {
+			throw invalidRefreshToken();
+		}
+
+		if (refreshToken.isRotated() || refreshTokenRepository.markRotated(refreshToken.getId()) == 0) {
+			log.warn("Reuse of a rotated refresh token of {} detected, the token family is revoked!", refreshToken.getUsername());
+			refreshTokenRepository.deleteByFamily(refreshToken.getFamilyId());
+			throw invalidRefreshToken();
+		}
+
+		final AuthenticatedUserDto authenticatedUser = userService.findAuthenticatedUserByUsername(refreshToken.getUsername());
+
+		if (Objects.isNull(authenticatedUser) || authenticatedUser.getTokenVersion() != refreshToken.getTokenVersion()) {
+			refreshTokenRepository.deleteByFamily(refreshToken.getFamilyId());
+			throw invalidRefreshToken();
+		}
+
+		final String token = jwtTokenManager.generateToken(authenticatedUser);
+		final String rotatedToken = issue(refreshToken.getFamilyId(), refreshToken.getUsername(), refreshToken.getTokenVersion());
+
+		return new LoginResponse(token, rotatedToken);
+	}
+
+	/**
+	 * Revokes the family of the token, unknown tokens are ignored.
+	 */
+	@Transactional
+	public void revoke(String rawToken) {
+
+		final RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken));
+
+		if (Objects.nonNull(refreshToken)) {
+			refreshTokenRepository.deleteByFamily(refreshToken.getFamilyId());
+		}
+	}
+
+	@Transactional
+	@Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1H")
+	public void deleteExpiredTokens() {
+
+		final int deletedTokens = refreshTokenRepository.deleteExpired(Instant.now());
+
+		log.info("{} expired refresh tokens deleted.", deletedTokens);
+	}
+
+	private String issue(String familyId, String username, int tokenVersion) {
+
+		final byte[] tokenBytes = new byte[TOKEN_BYTES];
+		secureRandom.nextBytes(tokenBytes);
+		final String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+
+		final Instant expiresAt = Instant.now().plus(Duration.ofMinutes(jwtProperties.getRefreshExpirationMinute()));
+
+		//@formatter:off
+		final RefreshToken refreshToken = RefreshToken.builder()
+				.tokenHash(hash(rawToken))
+				.familyId(familyId)
+				.username(username)
+				.tokenVersion(tokenVersion)
+				.expiresAt(expiresAt)
+				.build();
+		//@formatter:on
+
+		refreshTokenRepository.save(refreshToken);
+
+		return rawToken;
+	}
+
+	private RefreshTokenException invalidRefreshToken() {
+		return new RefreshTokenException(exceptionMessageAccessor.getMessage(null, REFRESH_TOKEN_INVALID));
+	}
+
+	private static String hash(String rawToken) {
+
+		try {
+			final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			final byte[] hash = messageDigest.digest(rawToken.getBytes(StandardCharsets.US_ASCII));
+
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "token-revocation")
+public class TokenRevocationProperties {
+
+	/**
+	 * Every synchronization reads again the revocations this much older than the latest one already read, so
+	 * revocations stamped by an instance whose clock is behind or committed late are not missed.
+	 */
+	private Duration synchronizationOverlap = Duration.ofMinutes(1);
+
+}
@@ -0,0 +1,175 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.model.RevokedToken;
+import com.farukgenc.boilerplate.springboot.repository.RevokedTokenRepository;
+import com.farukgenc.boilerplate.springboot.security.jwt.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Created on October, 2026
+ *
+ * In-memory view of the revoked tokens that have not expired yet, keyed by their jti claim. Every entry is evicted when
+ * its token expires, so memory is bounded by the number of live revoked tokens. Revocations are stored in the
+ * REVOKED_TOKENS table, loaded at startup and synchronized periodically, so revocations of other instances are seen too.
+ * Each synchronization reads the revocations since the latest revokedAt already read, minus
+ * token-revocation.synchronization-overlap, so it does not depend on the clock of this instance.
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+	private static final String CACHE_NAME = "jwt.revoked-tokens";
+
+	private final RevokedTokenRepository revokedTokenRepository;
+
+	private final TokenRevocationProperties tokenRevocationProperties;
+
+	private final Cache<String, Instant> revokedTokens;
+
+	private volatile Instant latestRevokedAt = Instant.EPOCH;
+
+	public TokenRevocationRegistry(RevokedTokenRepository revokedTokenRepository, TokenRevocationProperties tokenRevocationProperties, MeterRegistry meterRegistry) {
+
+		this.revokedTokenRepository = revokedTokenRepository;
+		this.tokenRevocationProperties = tokenRevocationProperties;
+
+		//@formatter:off
+		this.revokedTokens = Caffeine.newBuilder()
+				.expireAfter(new RevocationExpiry())
+				.recordStats()
+				.build();
+		//@formatter:on
+
+		CaffeineCacheMetrics.monitor(meterRegistry, revokedTokens, CACHE_NAME);
+	}
+
+	@PostConstruct
+	void loadRevokedTokens() {
+
+		final int loadedTokens = synchronizeRevokedTokens();
+
+		log.info("{} revoked tokens loaded.", loadedTokens);
+	}
+
+	@Scheduled(initialDelayString = "${token-revocation.refresh-interval:60000}", fixedDelayString = "${token-revocation.refresh-interval:60000}")
+	void refreshRevokedTokens() {
+
+		final int loadedTokens = synchronizeRevokedTokens();
+
+		log.debug("{} revoked tokens synchronized.", loadedTokens);
+	}
+
+	/**
+	 * Tokens issued without a jti claim can not be revoked individually.
+	 */
+	public boolean isRevoked(VerifiedToken verifiedToken) {
+
+		final String tokenId = verifiedToken.getTokenId();
+
+		return Objects.nonNull(tokenId) && Objects.nonNull(revokedTokens.getIfPresent(tokenId));
+	}
+
+	@Transactional
+	public void revoke(VerifiedToken verifiedToken) {
+
+		final String tokenId = verifiedToken.getTokenId();
+
+		if (Objects.isNull(tokenId) || isRevoked(verifiedToken)) {
+			return;
+		}
+
+		//@formatter:off
+		final RevokedToken revokedToken = RevokedToken.builder()
+				.tokenId(tokenId)
+				.username(verifiedToken.getUsername())
+				.revokedAt(Instant.now())
+				.expiresAt(verifiedToken.getExpiresAt())
+				.build();
+		//@formatter:on
+
+		revokedTokenRepository.save(revokedToken);
+
+		// A revocation that rolls back must not be enforced here while other instances never see it
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCommit() {
+					revokedTokens.put(tokenId, verifiedToken.getExpiresAt());
+				}
+			});
+		}
+		else {
+			revokedTokens.put(tokenId, verifiedToken.getExpiresAt());
+		}
+	}
+
+	@Transactional
+	@Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1H")
+	public void deleteExpiredTokens() {
+
+		final int deletedTokens = revokedTokenRepository.deleteExpired(Instant.now());
+
+		log.info("{} expired revoked tokens deleted.", deletedTokens);
+	}
+
+	private synchronized int synchronizeRevokedTokens() {
+
+		final Instant revokedSince = latestRevokedAt.minus(tokenRevocationProperties.getSynchronizationOverlap());
+		final List<RevokedToken> tokens = revokedTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(revokedSince, Instant.now());
+		tokens.forEach(revokedToken -> revokedTokens.put(revokedToken.getTokenId(), revokedToken.getExpiresAt()));
+
+		// The watermark only moves to a stored revokedAt, never to the local clock
+		//@formatter:off
+		tokens.stream()
+				.map(RevokedToken::getRevokedAt)
+				.max(Comparator.naturalOrder())
+				.filter(revokedAt -> revokedAt.isAfter(latestRevokedAt))
+				.ifPresent(revokedAt -> latestRevokedAt = revokedAt);
+		//@formatter:on
+
+		return tokens.size();
+	}
+
+	private static class RevocationExpiry implements Expiry<String, Instant> {
+
+		@Override
+		public long expireAfterCreate(String tokenId, Instant expiresAt, long currentTime) {
+
+			final Duration timeToLive = Duration.between(Instant.now(), expiresAt);
+
+			return Math.max(0, timeToLive.toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(String tokenId, Instant expiresAt, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+		@Override
+		public long expireAfterRead(String tokenId, Instant expiresAt, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.model.User;
+import com.farukgenc.boilerplate.springboot.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.jwt.VerifiedToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Created on October, 2026
+ *
+ * In-memory view of the users whose token version has been bumped, so that tokens can be checked without a database
+ * round-trip. Users that were never invalidated are at version 0 and are not kept in memory. Tokens may be invalidated
+ * on another instance, so the view is reloaded periodically. Versions only grow, a reload never lowers a version.
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenVersionRegistry {
+
+	private final Map<String, Integer> tokenVersions = new ConcurrentHashMap<>();
+
+	private final UserRepository userRepository;
+
+	@PostConstruct
+	void loadTokenVersions() {
+
+		final int loadedUsers = synchronizeTokenVersions();
+
+		log.info("Token versions of {} users loaded.", loadedUsers);
+	}
+
+	@Scheduled(initialDelayString = "${token-version.refresh-interval:60000}", fixedDelayString = "${token-version.refresh-interval:60000}")
+	void refreshTokenVersions() {
+
+		final int loadedUsers = synchronizeTokenVersions();
+
+		log.debug("Token versions of {} users synchronized.", loadedUsers);
+	}
+
+	public boolean isCurrent(VerifiedToken verifiedToken) {
+
+		final int currentTokenVersion = tokenVersions.getOrDefault(verifiedToken.getUsername(), 0);
+
+		return verifiedToken.getTokenVersion() >= currentTokenVersion;
+	}
+
+	@Transactional
+	public void invalidateTokens(String username) {
+
+		userRepository.incrementTokenVersion(username);
+
+		final Integer tokenVersion = userRepository.findTokenVersionByUsername(username);
+
+		if (Objects.isNull(tokenVersion)) {
+			return;
+		}
+
+		// A bump that rolls back must not reject tokens here while the database still accepts them
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCommit() {
+					tokenVersions.merge(username, tokenVersion, Math::max);
+				}
+			});
+		}
+		else {
+			tokenVersions.merge(username, tokenVersion, Math::max);
+		}
+	}
+
+	private int synchronizeTokenVersions() {
+
+		final List<User> users = userRepository.findByTokenVersionGreaterThan(0);
+		users.forEach(user -> tokenVersions.merge(user.getUsername(), user.getTokenVersion(), Math::max));
+
+		return users.size();
+	}
+
+}
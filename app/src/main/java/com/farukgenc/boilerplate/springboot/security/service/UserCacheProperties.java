@@ -0,0 +1,27 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "user-cache")
+public class UserCacheProperties {
+
+	private boolean enabled = true;
+
+	private long maximumSize = 10_000;
+
+	private Duration timeToLive = Duration.ofMinutes(5);
+
+}
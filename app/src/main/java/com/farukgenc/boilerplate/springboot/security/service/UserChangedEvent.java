@@ -0,0 +1,19 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Created on October, 2026
+ *
+ * Published in-process whenever a user is registered or its password, role or token version changes.
+ *
+ * @author Faruk
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+
+	private final String username;
+
+}
@@ -0,0 +1,72 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.security.dto.AuthenticatedUserDetails;
+import com.farukgenc.boilerplate.springboot.security.dto.AuthenticatedUserDto;
+import com.farukgenc.boilerplate.springboot.security.utils.AuthenticationOutcome;
+import com.farukgenc.boilerplate.springboot.security.utils.AuthenticationTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+/**
+ * Created on Ağustos, 2020
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Service
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
+
+	private static final String USERNAME_OR_PASSWORD_INVALID = "Invalid username or password.";
+
+	private final UserService userService;
+
+	private final AuthenticationTimer lookupTimer;
+
+	public UserDetailsServiceImpl(UserService userService, MeterRegistry meterRegistry) {
+
+		this.userService = userService;
+		this.lookupTimer = new AuthenticationTimer(meterRegistry, "auth.user.lookup", "Lookup of the authenticated user", AuthenticationOutcome.VALID, AuthenticationOutcome.USER_MISSING);
+	}
+
+	@Override
+	public UserDetails loadUserByUsername(String username) {
+
+		final long start = System.nanoTime();
+		final AuthenticatedUserDto authenticatedUser = userService.findAuthenticatedUserByUsername(username);
+
+		if (Objects.isNull(authenticatedUser)) {
+			lookupTimer.record(start, AuthenticationOutcome.USER_MISSING);
+			throw new UsernameNotFoundException(USERNAME_OR_PASSWORD_INVALID);
+		}
+
+		lookupTimer.record(start, AuthenticationOutcome.VALID);
+
+		final String authenticatedUsername = authenticatedUser.getUsername();
+		final String authenticatedPassword = authenticatedUser.getPassword();
+
+		return new AuthenticatedUserDetails(authenticatedUsername, authenticatedPassword, authenticatedUser.getUserRole(), authenticatedUser.getTokenVersion());
+	}
+
+	/**
+	 * Called by the authentication provider after a successful login when the stored hash is outdated.
+	 */
+	@Override
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+
+		final AuthenticatedUserDetails authenticatedUser = (AuthenticatedUserDetails) user;
+		final String username = authenticatedUser.getUsername();
+
+		userService.updatePassword(username, newPassword);
+
+		log.info("Password hash of {} has been upgraded.", username);
+
+		return new AuthenticatedUserDetails(username, newPassword, authenticatedUser.getUserRole(), authenticatedUser.getTokenVersion());
+	}
+}
@@ -18,4 +18,8 @@ public interface UserService {
 
 	AuthenticatedUserDto findAuthenticatedUserByUsername(String username);
 
+	void updatePassword(String username, String encodedPassword);
+
+	void invalidateTokens(String username);
+
 }
@@ -0,0 +1,110 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.service.RegistrationMembershipFilter;
+import com.farukgenc.boilerplate.springboot.service.UserValidationService;
+import com.farukgenc.boilerplate.springboot.model.User;
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityAuditLog;
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityEventType;
+import com.farukgenc.boilerplate.springboot.security.dto.AuthenticatedUserDto;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationRequest;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationResponse;
+import com.farukgenc.boilerplate.springboot.security.mapper.UserMapper;
+import com.farukgenc.boilerplate.springboot.utils.GeneralMessageAccessor;
+import com.farukgenc.boilerplate.springboot.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Created on Ağustos, 2020
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserServiceImpl implements UserService {
+
+	private static final String REGISTRATION_SUCCESSFUL = "registration_successful";
+
+	private final UserRepository userRepository;
+
+	private final PasswordEncoder passwordEncoder;
+
+	private final PasswordHashingExecutor passwordHashingExecutor;
+
+	private final UserValidationService userValidationService;
+
+	private final RegistrationMembershipFilter registrationMembershipFilter;
+
+	private final GeneralMessageAccessor generalMessageAccessor;
+
+	private final TokenVersionRegistry tokenVersionRegistry;
+
+	private final AuthenticatedUserCache authenticatedUserCache;
+
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	private final SecurityAuditLog securityAuditLog;
+
+	@Override
+	public User findByUsername(String username) {
+
+		return userRepository.findByUsername(username);
+	}
+
+	@Override
+	public RegistrationResponse registration(RegistrationRequest registrationRequest) {
+
+		userValidationService.validateUser(registrationRequest);
+
+		final User user = UserMapper.INSTANCE.convertToUser(registrationRequest);
+		user.setPassword(passwordHashingExecutor.invoke(() -> passwordEncoder.encode(user.getPassword())));
+		user.setUserRole(UserRole.USER);
+
+		try {
+			userRepository.save(user);
+		}
+		catch (DataIntegrityViolationException e) {
+			throw userValidationService.translateConstraintViolation(registrationRequest, e);
+		}
+		registrationMembershipFilter.put(user.getUsername(), user.getEmail());
+
+		final String username = registrationRequest.getUsername();
+		applicationEventPublisher.publishEvent(new UserChangedEvent(username));
+
+		final String registrationSuccessMessage = generalMessageAccessor.getMessage(null, REGISTRATION_SUCCESSFUL, username);
+
+		securityAuditLog.publish(SecurityEventType.REGISTRATION, username, null);
+
+		return new RegistrationResponse(registrationSuccessMessage);
+	}
+
+	@Override
+	public AuthenticatedUserDto findAuthenticatedUserByUsername(String username) {
+
+		return authenticatedUserCache.getAuthenticatedUser(username);
+	}
+
+	@Override
+	@Transactional
+	public void updatePassword(String username, String encodedPassword) {
+
+		userRepository.updatePassword(username, encodedPassword);
+		applicationEventPublisher.publishEvent(new UserChangedEvent(username));
+	}
+
+	@Override
+	public void invalidateTokens(String username) {
+
+		tokenVersionRegistry.invalidateTokens(username);
+		applicationEventPublisher.publishEvent(new UserChangedEvent(username));
+
+		log.info("Previously issued tokens of {} are no longer accepted!", username);
+	}
+}
@@ -0,0 +1,68 @@
+package com.farukgenc.boilerplate.springboot.security.utils;
+
+import com.auth0.jwt.exceptions.AlgorithmMismatchException;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+
+import java.util.Locale;
+
+/**
+ * Created on October, 2026
+ *
+ * Values of the outcome tag on the authentication timers.
+ *
+ * @author Faruk
+ */
+public enum AuthenticationOutcome {
+
+	VALID,
+
+	NO_TOKEN,
+
+	EXPIRED,
+
+	BAD_SIGNATURE,
+
+	INVALID_CLAIM,
+
+	MALFORMED,
+
+	/**
+	 * Token was valid, but issued before the tokens of the user were invalidated.
+	 */
+	INVALIDATED,
+
+	/**
+	 * Token was valid, but has been revoked on its own.
+	 */
+	REVOKED,
+
+	USER_MISSING,
+
+	BAD_CREDENTIALS,
+
+	REJECTED;
+
+	private final String tagValue = name().toLowerCase(Locale.ROOT);
+
+	public String getTagValue() {
+		return tagValue;
+	}
+
+	public static AuthenticationOutcome of(JWTVerificationException exception) {
+
+		if (exception instanceof TokenExpiredException) {
+			return EXPIRED;
+		}
+		if (exception instanceof SignatureVerificationException || exception instanceof AlgorithmMismatchException) {
+			return BAD_SIGNATURE;
+		}
+		if (exception instanceof JWTDecodeException) {
+			return MALFORMED;
+		}
+		return INVALID_CLAIM;
+	}
+
+}
@@ -0,0 +1,28 @@
+package com.farukgenc.boilerplate.springboot.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "registration-filter")
+public class RegistrationFilterProperties {
+
+	private boolean enabled = true;
+
+	/**
+	 * Number of users the filters are sized for. Memory use grows linearly with it.
+	 */
+	private long expectedInsertions = 1_000_000;
+
+	private double falsePositiveProbability = 0.01;
+
+}
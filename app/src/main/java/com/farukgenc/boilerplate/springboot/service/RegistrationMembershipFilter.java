@@ -0,0 +1,125 @@
+package com.farukgenc.boilerplate.springboot.service;
+
+import com.farukgenc.boilerplate.springboot.repository.UserIdentityView;
+import com.farukgenc.boilerplate.springboot.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.utils.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Created on October, 2026
+ *
+ * Bloom filters of the registered usernames and emails. A negative answer means the value is definitely not in the
+ * USERS table, so the existence query can be skipped. A positive answer must still be confirmed by the database.
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Component
+public class RegistrationMembershipFilter {
+
+	private static final String METRIC_PREFIX = "registration.filter";
+
+	private static final String USERNAME = "username";
+
+	private static final String EMAIL = "email";
+
+	private final UserRepository userRepository;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final BloomFilter usernameFilter;
+
+	private final BloomFilter emailFilter;
+
+	public RegistrationMembershipFilter(UserRepository userRepository, PlatformTransactionManager transactionManager, RegistrationFilterProperties registrationFilterProperties, MeterRegistry meterRegistry) {
+
+		this.userRepository = userRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+
+		if (!registrationFilterProperties.isEnabled()) {
+			this.usernameFilter = null;
+			this.emailFilter = null;
+			return;
+		}
+
+		final long expectedInsertions = registrationFilterProperties.getExpectedInsertions();
+		final double falsePositiveProbability = registrationFilterProperties.getFalsePositiveProbability();
+
+		this.usernameFilter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+		this.emailFilter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+
+		registerMetrics(meterRegistry, USERNAME, usernameFilter);
+		registerMetrics(meterRegistry, EMAIL, emailFilter);
+	}
+
+	@PostConstruct
+	void loadRegisteredUsers() {
+
+		if (Objects.isNull(usernameFilter)) {
+			return;
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			try (Stream<UserIdentityView> identities = userRepository.streamAllIdentities()) {
+				identities.forEach(identity -> put(identity.getUsername(), identity.getEmail()));
+			}
+		});
+
+		log.info("Registration filters loaded with {} users, {} bytes each, expected false positive probability : {}", usernameFilter.getInsertions(),
+				 usernameFilter.getMemoryBytes(), usernameFilter.getExpectedFalsePositiveProbability());
+	}
+
+	public void put(String username, String email) {
+
+		if (Objects.isNull(usernameFilter)) {
+			return;
+		}
+
+		if (Objects.nonNull(username)) {
+			usernameFilter.put(username);
+		}
+
+		if (Objects.nonNull(email)) {
+			emailFilter.put(email);
+		}
+	}
+
+	public boolean mightContainUsername(String username) {
+
+		return Objects.isNull(usernameFilter) || usernameFilter.mightContain(username);
+	}
+
+	public boolean mightContainEmail(String email) {
+
+		return Objects.isNull(emailFilter) || emailFilter.mightContain(email);
+	}
+
+	private static void registerMetrics(MeterRegistry meterRegistry, String filterName, BloomFilter bloomFilter) {
+
+		//@formatter:off
+		Gauge.builder(METRIC_PREFIX + ".memory", bloomFilter, BloomFilter::getMemoryBytes)
+				.tag("filter", filterName)
+				.baseUnit("bytes")
+				.register(meterRegistry);
+
+		Gauge.builder(METRIC_PREFIX + ".insertions", bloomFilter, BloomFilter::getInsertions)
+				.tag("filter", filterName)
+				.register(meterRegistry);
+
+		Gauge.builder(METRIC_PREFIX + ".false.positive.probability", bloomFilter, BloomFilter::getExpectedFalsePositiveProbability)
+				.tag("filter", filterName)
+				.register(meterRegistry);
+		//@formatter:on
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.farukgenc.boilerplate.springboot.service;
+
+import com.farukgenc.boilerplate.springboot.utils.ExceptionMessageAccessor;
+import com.farukgenc.boilerplate.springboot.exceptions.RegistrationException;
+import com.farukgenc.boilerplate.springboot.model.UserConstraints;
+import com.farukgenc.boilerplate.springboot.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationRequest;
+import com.farukgenc.boilerplate.springboot.security.utils.AuthenticationOutcome;
+import com.farukgenc.boilerplate.springboot.security.utils.AuthenticationTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Created on Ağustos, 2020
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Service
+public class UserValidationService {
+
+	private static final String EMAIL_ALREADY_EXISTS = "email_already_exists";
+
+	private static final String USERNAME_ALREADY_EXISTS = "username_already_exists";
+
+	private final UserRepository userRepository;
+
+	private final ExceptionMessageAccessor exceptionMessageAccessor;
+
+	private final RegistrationMembershipFilter registrationMembershipFilter;
+
+	private final AuthenticationTimer validationTimer;
+
+	public UserValidationService(UserRepository userRepository, ExceptionMessageAccessor exceptionMessageAccessor, RegistrationMembershipFilter registrationMembershipFilter, MeterRegistry meterRegistry) {
+
+		this.userRepository = userRepository;
+		this.exceptionMessageAccessor = exceptionMessageAccessor;
+		this.registrationMembershipFilter = registrationMembershipFilter;
+		this.validationTimer = new AuthenticationTimer(meterRegistry, "auth.registration.validation", "Uniqueness checks of registrations", AuthenticationOutcome.VALID, AuthenticationOutcome.REJECTED);
+	}
+
+	/**
+	 * Rejects values the registration filter reports as possibly taken, before the password is hashed. The unique
+	 * constraints on USERS remain the authority, see {@link #translateConstraintViolation}.
+	 */
+	public void validateUser(RegistrationRequest registrationRequest) {
+
+		final String email = registrationRequest.getEmail();
+		final String username = registrationRequest.getUsername();
+
+		final long start = System.nanoTime();
+		try {
+			checkEmail(email);
+			checkUsername(username);
+		}
+		catch (RegistrationException e) {
+			validationTimer.record(start, AuthenticationOutcome.REJECTED);
+			throw e;
+		}
+
+		validationTimer.record(start, AuthenticationOutcome.VALID);
+	}
+
+	public RuntimeException translateConstraintViolation(RegistrationRequest registrationRequest, DataIntegrityViolationException exception) {
+
+		final String constraintName = getConstraintName(exception);
+
+		if (constraintName.contains(UserConstraints.EMAIL_CONSTRAINT)) {
+
+			log.warn("{} is already being used!", registrationRequest.getEmail());
+
+			return new RegistrationException(exceptionMessageAccessor.getMessage(null, EMAIL_ALREADY_EXISTS));
+		}
+
+		if (constraintName.contains(UserConstraints.USERNAME_CONSTRAINT)) {
+
+			log.warn("{} is already being used!", registrationRequest.getUsername());
+
+			return new RegistrationException(exceptionMessageAccessor.getMessage(null, USERNAME_ALREADY_EXISTS));
+		}
+
+		return exception;
+	}
+
+	private void checkUsername(String username) {
+
+		final boolean existsByUsername = registrationMembershipFilter.mightContainUsername(username) && userRepository.existsByUsername(username);
+
+		if (existsByUsername) {
+
+			log.warn("{} is already being used!", username);
+
+			final String existsUsername = exceptionMessageAccessor.getMessage(null, USERNAME_ALREADY_EXISTS);
+			throw new RegistrationException(existsUsername);
+		}
+
+	}
+
+	private void checkEmail(String email) {
+
+		final boolean existsByEmail = registrationMembershipFilter.mightContainEmail(email) && userRepository.existsByEmail(email);
+
+		if (existsByEmail) {
+
+			log.warn("{} is already being used!", email);
+
+			final String existsEmail = exceptionMessageAccessor.getMessage(null, EMAIL_ALREADY_EXISTS);
+			throw new RegistrationException(existsEmail);
+		}
+	}
+
+	private static String getConstraintName(DataIntegrityViolationException exception) {
+
+		Throwable cause = exception.getCause();
+		while (Objects.nonNull(cause) && !(cause instanceof ConstraintViolationException)) {
+			cause = cause.getCause();
+		}
+
+		final String constraintName = Objects.isNull(cause) ? null : ((ConstraintViolationException) cause).getConstraintName();
+
+		return Objects.isNull(constraintName) ? "" : constraintName.toUpperCase(Locale.ROOT);
+	}
+
+}
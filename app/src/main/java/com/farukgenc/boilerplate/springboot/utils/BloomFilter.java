@@ -0,0 +1,133 @@
+package com.farukgenc.boilerplate.springboot.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Created on October, 2026
+ *
+ * Thread-safe Bloom filter for strings. {@link #mightContain(String)} never returns false for a value that has been
+ * put, it may return true for a value that has not.
+ *
+ * @author Faruk
+ */
+public final class BloomFilter {
+
+	private static final double LN2 = Math.log(2);
+
+	private final AtomicLongArray words;
+
+	private final long bitSize;
+
+	private final int hashFunctions;
+
+	private final AtomicLong insertions = new AtomicLong();
+
+	public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+
+		if (expectedInsertions <= 0 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+			throw new IllegalArgumentException("Expected insertions must be positive and false positive probability must be in (0, 1)");
+		}
+
+		final long optimalBitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (LN2 * LN2));
+		final int wordCount = (int) Math.min(Integer.MAX_VALUE, (optimalBitSize + Long.SIZE - 1) / Long.SIZE);
+
+		this.words = new AtomicLongArray(wordCount);
+		this.bitSize = (long) wordCount * Long.SIZE;
+		this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * LN2));
+	}
+
+	public void put(String value) {
+
+		final long hash1 = hash(value);
+		final long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+
+		for (int i = 0; i < hashFunctions; i++) {
+			setBit(index(hash1, hash2, i));
+		}
+
+		insertions.incrementAndGet();
+	}
+
+	public boolean mightContain(String value) {
+
+		final long hash1 = hash(value);
+		final long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+
+		for (int i = 0; i < hashFunctions; i++) {
+			if (!isBitSet(index(hash1, hash2, i))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	public long getBitSize() {
+		return bitSize;
+	}
+
+	public int getHashFunctions() {
+		return hashFunctions;
+	}
+
+	public long getInsertions() {
+		return insertions.get();
+	}
+
+	public long getMemoryBytes() {
+		return (long) words.length() * Long.BYTES;
+	}
+
+	/**
+	 * @return false positive probability for the number of values put so far
+	 */
+	public double getExpectedFalsePositiveProbability() {
+
+		return Math.pow(1 - Math.exp(-hashFunctions * (double) insertions.get() / bitSize), hashFunctions);
+	}
+
+	private long index(long hash1, long hash2, int i) {
+
+		return ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+	}
+
+	private void setBit(long bitIndex) {
+
+		final int wordIndex = (int) (bitIndex >>> 6);
+		final long mask = 1L << bitIndex;
+
+		long word = words.get(wordIndex);
+		while ((word & mask) == 0 && !words.compareAndSet(wordIndex, word, word | mask)) {
+			word = words.get(wordIndex);
+		}
+	}
+
+	private boolean isBitSet(long bitIndex) {
+
+		return (words.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) != 0;
+	}
+
+	private static long hash(String value) {
+
+		long hash = 0xCBF29CE484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001B3L;
+		}
+
+		return mix(hash);
+	}
+
+	private static long mix(long hash) {
+
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+
+		return hash;
+	}
+
+}
@@ -2,6 +2,8 @@ package com.farukgenc.boilerplate.springboot.utils;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.util.Locale;
@@ -21,13 +23,24 @@ public class GeneralMessageAccessor {
 		this.messageSource = messageSource;
 	}
 
+	/**
+	 * Without a locale, the locale of the current request is used, which is resolved from Accept-Language.
+	 */
 	public String getMessage(Locale locale, String key, Object... parameter) {
 
 		if (Objects.isNull(locale)) {
-			return messageSource.getMessage(key, parameter, ProjectConstants.TURKISH_LOCALE);
+			return messageSource.getMessage(key, parameter, getRequestLocale());
 		}
 
 		return messageSource.getMessage(key, parameter, locale);
 	}
 
+	private static Locale getRequestLocale() {
+
+		final LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+		final Locale locale = Objects.isNull(localeContext) ? null : localeContext.getLocale();
+
+		return Objects.isNull(locale) ? ProjectConstants.TURKISH_LOCALE : locale;
+	}
+
 }
@@ -1,5 +1,6 @@
 package com.farukgenc.boilerplate.springboot.utils;
 
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -15,6 +16,11 @@ public final class ProjectConstants {
 
 	public static final Locale TURKISH_LOCALE = new Locale.Builder().setLanguage("tr").setRegion("TR").build();
 
+	/**
+	 * Locales that have message bundles, the first match of Accept-Language is used, Turkish when nothing matches.
+	 */
+	public static final List<Locale> SUPPORTED_LOCALES = List.of(TURKISH_LOCALE, Locale.ENGLISH);
+
 	private ProjectConstants() {
 
 		throw new UnsupportedOperationException();
@@ -0,0 +1,113 @@
+package com.farukgenc.boilerplate.springboot.utils;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Created on October, 2026
+ *
+ * Bounded, lock-free ring buffer for many producers and a single consumer. Every slot carries a sequence number, a
+ * producer claims a slot with one compare-and-set on the head and publishes its element by advancing the slot sequence,
+ * so producers never wait for each other or for the consumer. {@link #offer(Object)} fails instead of blocking when the
+ * buffer is full.
+ *
+ * @author Faruk
+ */
+public final class RingBuffer<E> {
+
+	private final int mask;
+
+	private final AtomicReferenceArray<E> elements;
+
+	private final AtomicLongArray sequences;
+
+	private final AtomicLong head = new AtomicLong();
+
+	private final AtomicLong tail = new AtomicLong();
+
+	/**
+	 * @param capacity rounded up to a power of two
+	 */
+	public RingBuffer(int capacity) {
+
+		if (capacity <= 0 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("Capacity must be in (0, 2^30]");
+		}
+
+		final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+
+		this.mask = size - 1;
+		this.elements = new AtomicReferenceArray<>(size);
+		this.sequences = new AtomicLongArray(size);
+
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * Safe to call from any thread.
+	 *
+	 * @return false if the buffer is full
+	 */
+	public boolean offer(E element) {
+
+		while (true) {
+
+			final long position = head.get();
+			final int index = (int) position & mask;
+			final long distance = sequences.get(index) - position;
+
+			if (distance < 0) {
+				return false;
+			}
+
+			if (distance == 0 && head.compareAndSet(position, position + 1)) {
+				elements.set(index, element);
+				sequences.set(index, position + 1);
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Moves up to maxElements published elements into the collection. Must only be called by one thread at a time.
+	 *
+	 * @return number of elements moved
+	 */
+	public int drainTo(Collection<? super E> collection, int maxElements) {
+
+		int drained = 0;
+		long position = tail.get();
+
+		while (drained < maxElements) {
+
+			final int index = (int) position & mask;
+			if (sequences.get(index) != position + 1) {
+				break;
+			}
+
+			collection.add(elements.get(index));
+			elements.set(index, null);
+			sequences.set(index, position + mask + 1);
+
+			position++;
+			drained++;
+		}
+
+		tail.set(position);
+
+		return drained;
+	}
+
+	public int size() {
+		return (int) Math.max(0, head.get() - tail.get());
+	}
+
+	public int capacity() {
+		return mask + 1;
+	}
+
+}
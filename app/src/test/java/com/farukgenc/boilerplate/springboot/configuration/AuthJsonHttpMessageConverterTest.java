@@ -0,0 +1,87 @@
+package com.farukgenc.boilerplate.springboot.configuration;
+
+import com.farukgenc.boilerplate.springboot.security.dto.LoginRequest;
+import com.farukgenc.boilerplate.springboot.security.dto.LoginResponse;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AuthJsonHttpMessageConverterTest {
+
+    private AuthJsonHttpMessageConverter authJsonHttpMessageConverter;
+
+    private MappingJackson2HttpMessageConverter jacksonHttpMessageConverter;
+
+    @BeforeEach
+    void setUp() {
+        // As configured by Spring Boot
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+        authJsonHttpMessageConverter = new AuthJsonHttpMessageConverter(objectMapper, JsonConfiguration.AUTH_BODY_TYPES);
+        jacksonHttpMessageConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+    }
+
+    @Test
+    void write_shouldMatchJacksonConverter() throws Exception {
+        // Given
+        LoginResponse loginResponse = new LoginResponse("access-token");
+        LoginResponse refreshedLoginResponse = new LoginResponse("access-token", "refresh-token");
+        RegistrationResponse registrationResponse = new RegistrationResponse("testuser kullanıcısı başarıyla kaydedildi.");
+
+        for (Object body : new Object[]{loginResponse, refreshedLoginResponse, registrationResponse}) {
+            // When
+            MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+            MockHttpOutputMessage expectedOutputMessage = new MockHttpOutputMessage();
+            authJsonHttpMessageConverter.write(body, MediaType.APPLICATION_JSON, outputMessage);
+            jacksonHttpMessageConverter.write(body, MediaType.APPLICATION_JSON, expectedOutputMessage);
+
+            // Then
+            assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(expectedOutputMessage.getBodyAsString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void read_shouldBindLoginRequest() throws Exception {
+        // Given
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage("{\"username\":\"testuser\",\"password\":\"şifre\",\"unknown\":1}".getBytes(StandardCharsets.UTF_8));
+        inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        // When
+        LoginRequest loginRequest = (LoginRequest) authJsonHttpMessageConverter.read(LoginRequest.class, inputMessage);
+
+        // Then
+        assertThat(loginRequest.getUsername()).isEqualTo("testuser");
+        assertThat(loginRequest.getPassword()).isEqualTo("şifre");
+    }
+
+    @Test
+    void read_whenBodyIsMalformed_shouldThrowHttpMessageNotReadableException() {
+        // Given
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage("{\"username\":".getBytes(StandardCharsets.UTF_8));
+        inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        // When & Then
+        assertThrows(HttpMessageNotReadableException.class, () -> authJsonHttpMessageConverter.read(LoginRequest.class, inputMessage));
+    }
+
+    @Test
+    void canRead_shouldOnlyAcceptAuthenticationBodies() {
+        // When & Then
+        assertThat(authJsonHttpMessageConverter.canRead(LoginRequest.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(authJsonHttpMessageConverter.canRead(String.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(authJsonHttpMessageConverter.canWrite(LoginResponse.class, MediaType.APPLICATION_XML)).isFalse();
+    }
+}
@@ -0,0 +1,64 @@
+package com.farukgenc.boilerplate.springboot.configuration;
+
+import com.farukgenc.boilerplate.springboot.utils.ProjectConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PrecompiledMessageSourceTest {
+
+    private static final String BASENAME = "classpath:/messages/exception/ExceptionMessages";
+
+    private PrecompiledMessageSource precompiledMessageSource;
+
+    private ReloadableResourceBundleMessageSource reloadableMessageSource;
+
+    @BeforeEach
+    void setUp() {
+        precompiledMessageSource = new PrecompiledMessageSource(BASENAME, ProjectConstants.DEFAULT_ENCODING, ProjectConstants.SUPPORTED_LOCALES);
+
+        reloadableMessageSource = new ReloadableResourceBundleMessageSource();
+        reloadableMessageSource.setBasename(BASENAME);
+        reloadableMessageSource.setDefaultEncoding(ProjectConstants.DEFAULT_ENCODING);
+        reloadableMessageSource.setFallbackToSystemLocale(false);
+    }
+
+    @Test
+    void getMessage_shouldMatchResourceBundleMessageSource() {
+        // Given
+        Locale[] locales = {ProjectConstants.TURKISH_LOCALE, new Locale("tr"), new Locale("tr", "CY"), Locale.ENGLISH, Locale.US};
+
+        for (Locale locale : locales) {
+            // When
+            String message = precompiledMessageSource.getMessage("username_already_exists", null, locale);
+            String formattedMessage = precompiledMessageSource.getMessage("registration_batch_too_large", new Object[]{10000}, locale);
+
+            // Then
+            assertThat(message).isEqualTo(reloadableMessageSource.getMessage("username_already_exists", null, locale));
+            assertThat(formattedMessage).isEqualTo(reloadableMessageSource.getMessage("registration_batch_too_large", new Object[]{10000}, locale));
+        }
+    }
+
+    @Test
+    void getMessage_shouldFormatArgumentsForLocale() {
+        // When
+        String turkishMessage = precompiledMessageSource.getMessage("registration_batch_too_large", new Object[]{10000}, ProjectConstants.TURKISH_LOCALE);
+        String englishMessage = precompiledMessageSource.getMessage("registration_batch_too_large", new Object[]{10000}, Locale.ENGLISH);
+
+        // Then
+        assertThat(turkishMessage).startsWith("Bir istekte en fazla 10.000");
+        assertThat(englishMessage).startsWith("A batch can contain at most 10,000");
+    }
+
+    @Test
+    void getMessage_whenCodeIsUnknown_shouldThrowNoSuchMessageException() {
+        // When & Then
+        assertThrows(NoSuchMessageException.class, () -> precompiledMessageSource.getMessage("unknown_code", null, Locale.ENGLISH));
+    }
+}
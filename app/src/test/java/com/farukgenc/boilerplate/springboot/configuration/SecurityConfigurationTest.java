@@ -0,0 +1,65 @@
+package com.farukgenc.boilerplate.springboot.configuration;
+
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtAuthenticationFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.servlet.Filter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+public class SecurityConfigurationTest {
+
+    @Autowired
+    private FilterChainProxy filterChainProxy;
+
+    @Autowired
+    private FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void publicPaths_shouldSkipTokenFilterAndSecurityContext() throws Exception {
+        // When
+        List<Filter> filters = filterChainProxy.getFilters("/actuator/health");
+
+        // Then
+        // Covers SecurityContextHolderFilter and the deprecated SecurityContextPersistenceFilter next to it
+        assertThat(filters).noneMatch(filter -> filter instanceof JwtAuthenticationFilter
+                || filter.getClass().getPackage() == SecurityContextHolderFilter.class.getPackage()
+                || filter instanceof AnonymousAuthenticationFilter);
+        assertThat(filterChainProxy.getFilters("/login")).noneMatch(JwtAuthenticationFilter.class::isInstance);
+        assertThat(jwtAuthenticationFilterRegistration.isEnabled()).isFalse();
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    @Test
+    void protectedPaths_shouldRequireToken() throws Exception {
+        // When
+        List<Filter> filters = filterChainProxy.getFilters("/hello/login");
+
+        // Then
+        assertThat(filters).anyMatch(JwtAuthenticationFilter.class::isInstance);
+        assertThat(filterChainProxy.getFilters("/token/revoke")).anyMatch(JwtAuthenticationFilter.class::isInstance);
+        mockMvc.perform(get("/hello")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/register/batch").contentType(MediaType.APPLICATION_JSON).content("[]")).andExpect(status().isUnauthorized());
+    }
+}
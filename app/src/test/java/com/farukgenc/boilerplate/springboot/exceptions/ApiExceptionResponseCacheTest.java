@@ -0,0 +1,58 @@
+package com.farukgenc.boilerplate.springboot.exceptions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ApiExceptionResponseCacheTest {
+
+    private ObjectMapper objectMapper;
+
+    private ApiExceptionResponseCache apiExceptionResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        // As configured by Spring Boot
+        objectMapper = Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        apiExceptionResponseCache = new ApiExceptionResponseCache(objectMapper);
+    }
+
+    @Test
+    void getBody_shouldMatchSerializedApiExceptionResponse() throws Exception {
+        // Given
+        String message = "Bu kullanıcı adı zaten \"kullanılıyor\"!";
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        byte[] body = apiExceptionResponseCache.getBody(HttpStatus.BAD_REQUEST, message);
+
+        // Then
+        ApiExceptionResponse response = objectMapper.readValue(body, ApiExceptionResponse.class);
+        assertThat(response.getMessage()).isEqualTo(message);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getTime()).isAfterOrEqualTo(before);
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(response));
+    }
+
+    @Test
+    void getBody_shouldOnlyRenewTime() throws Exception {
+        // When
+        byte[] first = apiExceptionResponseCache.getBody(HttpStatus.UNAUTHORIZED, "Bad credentials");
+        Thread.sleep(2);
+        byte[] second = apiExceptionResponseCache.getBody(HttpStatus.UNAUTHORIZED, "Bad credentials");
+
+        // Then
+        ApiExceptionResponse firstResponse = objectMapper.readValue(first, ApiExceptionResponse.class);
+        ApiExceptionResponse secondResponse = objectMapper.readValue(second, ApiExceptionResponse.class);
+        assertThat(secondResponse.getMessage()).isEqualTo(firstResponse.getMessage());
+        assertThat(secondResponse.getTime()).isAfter(firstResponse.getTime());
+    }
+}
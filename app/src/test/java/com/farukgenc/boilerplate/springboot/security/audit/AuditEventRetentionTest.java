@@ -0,0 +1,51 @@
+package com.farukgenc.boilerplate.springboot.security.audit;
+
+import com.farukgenc.boilerplate.springboot.model.AuditEvent;
+import com.farukgenc.boilerplate.springboot.repository.AuditEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "audit.flush-interval=1h",
+        "audit.retention=30d"
+})
+@AutoConfigureTestDatabase
+public class AuditEventRetentionTest {
+
+    @Autowired
+    private AuditEventRetention auditEventRetention;
+
+    @Autowired
+    private AuditEventRepository auditEventRepository;
+
+    @BeforeEach
+    void setUp() {
+        auditEventRepository.deleteAll();
+    }
+
+    @Test
+    void deleteExpiredEvents_shouldDeleteOnlyEventsOlderThanRetention() {
+        // Given
+        auditEventRepository.save(auditEvent("expired", Instant.now().minus(Duration.ofDays(31))));
+        auditEventRepository.save(auditEvent("retained", Instant.now().minus(Duration.ofDays(29))));
+
+        // When
+        auditEventRetention.deleteExpiredEvents();
+
+        // Then
+        assertThat(auditEventRepository.findAll()).extracting(AuditEvent::getUsername).containsExactly("retained");
+    }
+
+    private static AuditEvent auditEvent(String username, Instant occurredAt) {
+        return AuditEvent.builder().type(SecurityEventType.LOGIN_SUCCESS).username(username).occurredAt(occurredAt).build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.farukgenc.boilerplate.springboot.security.audit;
+
+import com.farukgenc.boilerplate.springboot.model.AuditEvent;
+import com.farukgenc.boilerplate.springboot.repository.AuditEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SecurityAuditLogTest {
+
+    @Mock
+    private AuditEventRepository auditEventRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SecurityAuditLog securityAuditLog;
+
+    @BeforeEach
+    void setUp() {
+        AuditProperties auditProperties = new AuditProperties();
+        auditProperties.setLogEnabled(true);
+
+        meterRegistry = new SimpleMeterRegistry();
+        securityAuditLog = new SecurityAuditLog(auditEventRepository, auditProperties, new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+    }
+
+    @Test
+    void flush_whenBatchInsertFails_shouldDropOnlyTheEventsThatCanNotBeWritten() {
+        // Given
+        when(auditEventRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("value too long"));
+        when(auditEventRepository.save(any(AuditEvent.class))).thenAnswer(invocation -> {
+            AuditEvent auditEvent = invocation.getArgument(0);
+            if ("broken".equals(auditEvent.getUsername())) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            return auditEvent;
+        });
+        securityAuditLog.publish(SecurityEventType.LOGIN_SUCCESS, "first", null);
+        securityAuditLog.publish(SecurityEventType.LOGIN_FAILURE, "broken", null);
+        securityAuditLog.publish(SecurityEventType.LOGIN_SUCCESS, "second", null);
+
+        // When
+        int drained = securityAuditLog.flush();
+
+        // Then
+        assertThat(drained).isEqualTo(3);
+        verify(auditEventRepository, times(3)).save(any(AuditEvent.class));
+        assertThat(meterRegistry.get("audit.events.written").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("audit.events.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void flush_shouldTruncateValuesToColumnLength() {
+        // Given
+        String longUsername = StringUtils.repeat('a', 1000);
+        securityAuditLog.publish(SecurityEventType.LOGIN_FAILURE, longUsername, StringUtils.repeat('b', 1000));
+
+        // When
+        securityAuditLog.flush();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<AuditEvent>> auditEvents = ArgumentCaptor.forClass(Iterable.class);
+        verify(auditEventRepository).saveAll(auditEvents.capture());
+        AuditEvent auditEvent = auditEvents.getValue().iterator().next();
+        assertThat(auditEvent.getUsername()).hasSize(255);
+        assertThat(auditEvent.getDetail()).hasSize(255);
+        assertThat(meterRegistry.get("audit.events.written").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,147 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.farukgenc.boilerplate.springboot.model.User;
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JwtKeyProviderTest {
+
+    @TempDir
+    Path keyDirectory;
+
+    private JwtProperties jwtProperties;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("www.farukgenc.com");
+        jwtProperties.setExpirationMinute(10);
+        jwtProperties.setAlgorithm(JwtProperties.SigningAlgorithm.RS256);
+        jwtProperties.getKeys().setLocation(keyDirectory.toString());
+    }
+
+    @Test
+    void reloadKeys_whenNewKeyIsAdded_shouldSignWithNewKeyAndStillVerifyOldTokens() throws Exception {
+        // Given
+        writeKeyPair("2026-01");
+        JwtKeyProvider jwtKeyProvider = new JwtKeyProvider(jwtProperties);
+        JwtTokenManager jwtTokenManager = new JwtTokenManager(jwtProperties, jwtKeyProvider, new SimpleMeterRegistry());
+        String oldToken = jwtTokenManager.generateToken(testUser());
+
+        // When
+        writeKeyPair("2026-02");
+        jwtKeyProvider.reloadKeys();
+        String newToken = jwtTokenManager.generateToken(testUser());
+
+        // Then
+        assertThat(JWT.decode(oldToken).getKeyId()).isEqualTo("2026-01");
+        assertThat(JWT.decode(newToken).getKeyId()).isEqualTo("2026-02");
+        assertThat(jwtTokenManager.verifyToken(oldToken).getUsername()).isEqualTo("testuser");
+        assertThat(jwtTokenManager.verifyToken(newToken).getUsername()).isEqualTo("testuser");
+    }
+
+    @Test
+    void reloadKeys_whenKeyIsRetired_shouldRejectItsTokens() throws Exception {
+        // Given
+        writeKeyPair("2026-01");
+        writeKeyPair("2026-02");
+        Files.delete(keyDirectory.resolve("2026-02.key"));
+        JwtKeyProvider jwtKeyProvider = new JwtKeyProvider(jwtProperties);
+        JwtTokenManager jwtTokenManager = new JwtTokenManager(jwtProperties, jwtKeyProvider, new SimpleMeterRegistry());
+        String oldToken = jwtTokenManager.generateToken(testUser());
+
+        // When
+        Files.delete(keyDirectory.resolve("2026-01.pub"));
+        Files.delete(keyDirectory.resolve("2026-01.key"));
+        writeKeyPair("2026-02");
+        jwtKeyProvider.reloadKeys();
+
+        // Then
+        assertThat(JWT.decode(oldToken).getKeyId()).isEqualTo("2026-01");
+        assertThrows(SignatureVerificationException.class, () -> jwtTokenManager.verifyToken(oldToken));
+        assertThat(JWT.decode(jwtTokenManager.generateToken(testUser())).getKeyId()).isEqualTo("2026-02");
+    }
+
+    @Test
+    void reloadKeys_whenKeyFileWasMalformed_shouldRetryWithoutDirectoryChange() throws Exception {
+        // Given
+        writeKeyPair("2026-01");
+        JwtKeyProvider jwtKeyProvider = new JwtKeyProvider(jwtProperties);
+        writeKeyPair("2026-02");
+        Path privateKey = keyDirectory.resolve("2026-02.key");
+        String validContent = Files.readString(privateKey);
+        FileTime lastModifiedTime = Files.getLastModifiedTime(privateKey);
+        Files.writeString(privateKey, validContent.replace("KEY-----\nM", "KEY-----\nA"));
+        Files.setLastModifiedTime(privateKey, lastModifiedTime);
+        jwtKeyProvider.reloadKeys();
+        assertThat(jwtKeyProvider.getKeySet().getSigningKeyId()).isEqualTo("2026-01");
+
+        // When
+        Files.writeString(privateKey, validContent);
+        Files.setLastModifiedTime(privateKey, lastModifiedTime);
+        jwtKeyProvider.reloadKeys();
+
+        // Then
+        assertThat(jwtKeyProvider.getKeySet().getSigningKeyId()).isEqualTo("2026-02");
+    }
+
+    @Test
+    void getKeySet_shouldPublishPublicKeysWithEtagThatChangesOnlyWithKeys() throws Exception {
+        // Given
+        writeKeyPair("2026-01");
+        JwtKeyProvider jwtKeyProvider = new JwtKeyProvider(jwtProperties);
+        JwtKeySet keySet = jwtKeyProvider.getKeySet();
+
+        // When
+        jwtKeyProvider.reloadKeys();
+        String unchangedEtag = jwtKeyProvider.getKeySet().getJwksEtag();
+        writeKeyPair("2026-02");
+        jwtKeyProvider.reloadKeys();
+
+        // Then
+        JsonNode jwks = new ObjectMapper().readTree(keySet.getJwks());
+        assertThat(jwks.get("keys")).hasSize(1);
+        assertThat(jwks.get("keys").get(0).get("kid").asText()).isEqualTo("2026-01");
+        assertThat(jwks.get("keys").get(0).get("kty").asText()).isEqualTo("RSA");
+        assertThat(jwks.get("keys").get(0).has("d")).isFalse();
+        assertThat(unchangedEtag).isEqualTo(keySet.getJwksEtag());
+        assertThat(jwtKeyProvider.getKeySet().getJwksEtag()).isNotEqualTo(keySet.getJwksEtag());
+        assertThat(new ObjectMapper().readTree(jwtKeyProvider.getKeySet().getJwks()).get("keys")).hasSize(2);
+    }
+
+    private void writeKeyPair(String keyId) throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+
+        writePem(keyDirectory.resolve(keyId + ".pub"), "PUBLIC KEY", keyPair.getPublic().getEncoded());
+        writePem(keyDirectory.resolve(keyId + ".key"), "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+    }
+
+    private static void writePem(Path file, String type, byte[] encoded) throws Exception {
+        String base64 = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(encoded);
+        Files.writeString(file, "-----BEGIN " + type + "-----\n" + base64 + "\n-----END " + type + "-----\n");
+    }
+
+    private static User testUser() {
+        return User.builder().username("testuser").userRole(UserRole.USER).build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.AlgorithmMismatchException;
+import com.auth0.jwt.exceptions.IncorrectClaimException;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.farukgenc.boilerplate.springboot.model.User;
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JwtTokenManagerTest {
+
+    private JwtProperties jwtProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private JwtTokenManager jwtTokenManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSecretKey("secret");
+        jwtProperties.setIssuer("www.farukgenc.com");
+        jwtProperties.setExpirationMinute(10);
+
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenManager = new JwtTokenManager(jwtProperties, new JwtKeyProvider(jwtProperties), meterRegistry);
+    }
+
+    @Test
+    void verifyToken_whenTokenIsValid_shouldReturnClaims() {
+        // Given
+        User user = User.builder().username("testuser").userRole(UserRole.ADMIN).build();
+        String token = jwtTokenManager.generateToken(user);
+
+        // When
+        VerifiedToken verifiedToken = jwtTokenManager.verifyToken(token);
+
+        // Then
+        assertThat(verifiedToken.getUsername()).isEqualTo("testuser");
+        assertThat(verifiedToken.getUserRole()).isEqualTo(UserRole.ADMIN);
+        assertThat(verifiedToken.getExpiresAt()).isAfter(verifiedToken.getIssuedAt());
+        assertThat(jwtTokenManager.validateToken(token, "testuser")).isTrue();
+        assertThat(jwtTokenManager.validateToken(token, "otheruser")).isFalse();
+    }
+
+    @Test
+    void verifyToken_shouldCarryTokenVersionOfUser() {
+        // Given
+        User user = User.builder().username("testuser").userRole(UserRole.USER).tokenVersion(3).build();
+        String token = jwtTokenManager.generateToken(user);
+
+        // When
+        VerifiedToken verifiedToken = jwtTokenManager.verifyToken(token);
+
+        // Then
+        assertThat(verifiedToken.getTokenVersion()).isEqualTo(3);
+    }
+
+    @Test
+    void verifyToken_whenTokenIsExpired_shouldThrowTokenExpiredException() {
+        // Given
+        String token = JWT.create()
+                .withSubject("testuser")
+                .withIssuer(jwtProperties.getIssuer())
+                .withClaim("role", UserRole.USER.name())
+                .withExpiresAt(new Date(System.currentTimeMillis() - 1000))
+                .sign(Algorithm.HMAC256(jwtProperties.getSecretKey().getBytes()));
+
+        // When & Then
+        assertThrows(TokenExpiredException.class, () -> jwtTokenManager.verifyToken(token));
+    }
+
+    @Test
+    void verifyToken_whenIssuerDiffers_shouldThrowIncorrectClaimException() {
+        // Given
+        String token = JWT.create()
+                .withSubject("testuser")
+                .withIssuer("www.example.com")
+                .withClaim("role", UserRole.USER.name())
+                .withExpiresAt(new Date(System.currentTimeMillis() + 60_000))
+                .sign(Algorithm.HMAC256(jwtProperties.getSecretKey().getBytes()));
+
+        // When & Then
+        assertThrows(IncorrectClaimException.class, () -> jwtTokenManager.verifyToken(token));
+    }
+
+    @Test
+    void verifyToken_whenSignedWithAnotherSecret_shouldThrowSignatureVerificationException() {
+        // Given
+        String token = JWT.create()
+                .withSubject("testuser")
+                .withIssuer(jwtProperties.getIssuer())
+                .withClaim("role", UserRole.USER.name())
+                .withExpiresAt(new Date(System.currentTimeMillis() + 60_000))
+                .sign(Algorithm.HMAC256("another-secret".getBytes()));
+
+        // When & Then
+        assertThrows(SignatureVerificationException.class, () -> jwtTokenManager.verifyToken(token));
+    }
+
+    @Test
+    void generateToken_whenAlgorithmIsAsymmetric_shouldSignWithKeyId() throws Exception {
+        // Given
+        jwtProperties.setAlgorithm(JwtProperties.SigningAlgorithm.ES256);
+        JwtKeyProvider jwtKeyProvider = new JwtKeyProvider(jwtProperties);
+        JwtTokenManager asymmetricTokenManager = new JwtTokenManager(jwtProperties, jwtKeyProvider, meterRegistry);
+        String hmacToken = jwtTokenManager.generateToken(User.builder().username("testuser").userRole(UserRole.USER).build());
+
+        // When
+        String token = asymmetricTokenManager.generateToken(User.builder().username("testuser").userRole(UserRole.USER).build());
+
+        // Then
+        assertThat(JWT.decode(token).getAlgorithm()).isEqualTo("ES256");
+        assertThat(JWT.decode(token).getKeyId()).isEqualTo(jwtKeyProvider.getKeySet().getSigningKeyId());
+        assertThat(asymmetricTokenManager.verifyToken(token).getUsername()).isEqualTo("testuser");
+        assertThrows(AlgorithmMismatchException.class, () -> asymmetricTokenManager.verifyToken(hmacToken));
+    }
+
+    @Test
+    void verifyToken_shouldRecordVerificationTimeTaggedWithOutcome() {
+        // Given
+        String validToken = jwtTokenManager.generateToken(User.builder().username("testuser").userRole(UserRole.USER).build());
+        String expiredToken = JWT.create()
+                .withSubject("testuser")
+                .withIssuer(jwtProperties.getIssuer())
+                .withClaim("role", UserRole.USER.name())
+                .withExpiresAt(new Date(System.currentTimeMillis() - 1000))
+                .sign(Algorithm.HMAC256(jwtProperties.getSecretKey().getBytes()));
+
+        // When
+        jwtTokenManager.verifyToken(validToken);
+        assertThrows(TokenExpiredException.class, () -> jwtTokenManager.verifyToken(expiredToken));
+        assertThrows(JWTDecodeException.class, () -> jwtTokenManager.verifyToken("not-a-token"));
+
+        // Then
+        assertThat(meterRegistry.get("auth.jwt.verification").tag("outcome", "valid").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.jwt.verification").tag("outcome", "expired").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.jwt.verification").tag("outcome", "malformed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.jwt.verification").tag("outcome", "bad_signature").timer().count()).isZero();
+    }
+}
@@ -0,0 +1,246 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.farukgenc.boilerplate.springboot.exceptions.RefreshTokenException;
+import com.farukgenc.boilerplate.springboot.model.AuditEvent;
+import com.farukgenc.boilerplate.springboot.model.RefreshToken;
+import com.farukgenc.boilerplate.springboot.model.User;
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.repository.AuditEventRepository;
+import com.farukgenc.boilerplate.springboot.repository.RefreshTokenRepository;
+import com.farukgenc.boilerplate.springboot.repository.RevokedTokenRepository;
+import com.farukgenc.boilerplate.springboot.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityAuditLog;
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityEventType;
+import com.farukgenc.boilerplate.springboot.security.dto.LoginRequest;
+import com.farukgenc.boilerplate.springboot.security.dto.LoginResponse;
+import com.farukgenc.boilerplate.springboot.security.service.RefreshTokenService;
+import com.farukgenc.boilerplate.springboot.security.service.TokenRevocationRegistry;
+import com.farukgenc.boilerplate.springboot.security.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "user-cache.enabled=false",
+        "audit.flush-interval=1h"
+})
+@AutoConfigureTestDatabase
+public class JwtTokenServiceTest {
+
+    @Autowired
+    private JwtTokenService jwtTokenService;
+
+    @Autowired
+    private JwtTokenManager jwtTokenManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private SecurityAuditLog securityAuditLog;
+
+    @Autowired
+    private AuditEventRepository auditEventRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        securityAuditLog.flush();
+        auditEventRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = User.builder()
+                .name("Test User")
+                .username("testuser")
+                .email("testuser@example.com")
+                .password(passwordEncoder.encode("password123"))
+                .userRole(UserRole.USER)
+                .build();
+        userRepository.save(user);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getLoginResponse_shouldLoadUserOnceAndStoreOnlyTheRefreshToken() {
+        // Given
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("testuser");
+        loginRequest.setPassword("password123");
+
+        // When
+        LoginResponse loginResponse = jwtTokenService.getLoginResponse(loginRequest);
+
+        // Then
+        assertThat(jwtTokenManager.verifyToken(loginResponse.getToken()).getUsername()).isEqualTo("testuser");
+        assertThat(loginResponse.getRefreshToken()).isNotBlank();
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(refreshTokenRepository.findAll()).extracting(RefreshToken::getTokenHash).doesNotContain(loginResponse.getRefreshToken());
+    }
+
+    @Test
+    void refresh_shouldRotateRefreshTokenWithoutPasswordVerification() {
+        // Given
+        LoginResponse loginResponse = jwtTokenService.getLoginResponse(validLoginRequest());
+        long passwordMatches = meterRegistry.get("auth.password.match").timers().stream().mapToLong(Timer::count).sum();
+
+        // When
+        LoginResponse refreshResponse = refreshTokenService.refresh(loginResponse.getRefreshToken());
+
+        // Then
+        assertThat(jwtTokenManager.verifyToken(refreshResponse.getToken()).getUsername()).isEqualTo("testuser");
+        assertThat(refreshResponse.getRefreshToken()).isNotEqualTo(loginResponse.getRefreshToken());
+        assertThat(meterRegistry.get("auth.password.match").timers().stream().mapToLong(Timer::count).sum()).isEqualTo(passwordMatches);
+        assertThat(refreshTokenService.refresh(refreshResponse.getRefreshToken()).getToken()).isNotBlank();
+    }
+
+    @Test
+    void refresh_whenRotatedTokenIsReused_shouldRevokeTokenFamily() {
+        // Given
+        LoginResponse loginResponse = jwtTokenService.getLoginResponse(validLoginRequest());
+        LoginResponse refreshResponse = refreshTokenService.refresh(loginResponse.getRefreshToken());
+
+        // When
+        assertThrows(RefreshTokenException.class, () -> refreshTokenService.refresh(loginResponse.getRefreshToken()));
+
+        // Then
+        assertThrows(RefreshTokenException.class, () -> refreshTokenService.refresh(refreshResponse.getRefreshToken()));
+        assertThat(refreshTokenRepository.count()).isZero();
+    }
+
+    @Test
+    void refresh_whenTokensOfUserAreInvalidated_shouldRejectRefreshToken() {
+        // Given
+        LoginResponse loginResponse = jwtTokenService.getLoginResponse(validLoginRequest());
+
+        // When
+        userService.invalidateTokens("testuser");
+
+        // Then
+        assertThrows(RefreshTokenException.class, () -> refreshTokenService.refresh(loginResponse.getRefreshToken()));
+        assertThrows(RefreshTokenException.class, () -> refreshTokenService.refresh("unknown-token"));
+    }
+
+    @Test
+    void revokeToken_shouldRevokeAccessTokenAndRefreshTokenFamily() {
+        // Given
+        LoginResponse loginResponse = jwtTokenService.getLoginResponse(validLoginRequest());
+        LoginResponse otherLoginResponse = jwtTokenService.getLoginResponse(validLoginRequest());
+
+        // When
+        jwtTokenService.revokeToken(loginResponse.getToken(), loginResponse.getRefreshToken());
+
+        // Then
+        assertThat(tokenRevocationRegistry.isRevoked(jwtTokenManager.verifyToken(loginResponse.getToken()))).isTrue();
+        assertThat(tokenRevocationRegistry.isRevoked(jwtTokenManager.verifyToken(otherLoginResponse.getToken()))).isFalse();
+        assertThat(revokedTokenRepository.findById(jwtTokenManager.verifyToken(loginResponse.getToken()).getTokenId())).isPresent();
+        assertThrows(RefreshTokenException.class, () -> refreshTokenService.refresh(loginResponse.getRefreshToken()));
+        assertThat(refreshTokenService.refresh(otherLoginResponse.getRefreshToken()).getToken()).isNotBlank();
+    }
+
+    @Test
+    void getLoginResponse_shouldAuditSuccessAndFailureInBatches() {
+        // Given
+        LoginRequest wrongLoginRequest = validLoginRequest();
+        wrongLoginRequest.setPassword("wrong-password");
+
+        // When
+        jwtTokenService.getLoginResponse(validLoginRequest());
+        assertThrows(BadCredentialsException.class, () -> jwtTokenService.getLoginResponse(wrongLoginRequest));
+        securityAuditLog.flush();
+
+        // Then
+        assertThat(auditEventRepository.findByUsernameAndType("testuser", SecurityEventType.LOGIN_SUCCESS)).hasSize(1);
+        assertThat(auditEventRepository.findByUsernameAndType("testuser", SecurityEventType.LOGIN_FAILURE))
+                .extracting(AuditEvent::getDetail).containsExactly("BadCredentialsException");
+    }
+
+    @Test
+    void getLoginResponse_whenPasswordIsWrong_shouldThrowBadCredentialsException() {
+        // Given
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("testuser");
+        loginRequest.setPassword("wrong-password");
+
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> jwtTokenService.getLoginResponse(loginRequest));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getLoginResponse_whenStoredHashIsOutdated_shouldUpgradeHash() {
+        // Given
+        User legacyUser = User.builder()
+                .name("Legacy User")
+                .username("legacyuser")
+                .email("legacyuser@example.com")
+                .password(new BCryptPasswordEncoder(4).encode("password123"))
+                .userRole(UserRole.USER)
+                .build();
+        userRepository.save(legacyUser);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("legacyuser");
+        loginRequest.setPassword("password123");
+
+        // When
+        jwtTokenService.getLoginResponse(loginRequest);
+
+        // Then
+        String storedPassword = userRepository.findByUsername("legacyuser").getPassword();
+        assertThat(storedPassword).startsWith("{bcrypt}");
+        assertThat(passwordEncoder.matches("password123", storedPassword)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(storedPassword)).isFalse();
+    }
+
+    private static LoginRequest validLoginRequest() {
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("testuser");
+        loginRequest.setPassword("password123");
+        return loginRequest;
+    }
+}
@@ -0,0 +1,61 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.farukgenc.boilerplate.springboot.model.User;
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class VerifiedTokenCacheTest {
+
+    private JwtTokenManager jwtTokenManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecretKey("secret");
+        jwtProperties.setIssuer("www.farukgenc.com");
+        jwtProperties.setExpirationMinute(10);
+        jwtProperties.getTokenCache().setEnabled(true);
+
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenManager = spy(new JwtTokenManager(jwtProperties, new JwtKeyProvider(jwtProperties), meterRegistry));
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenManager, jwtProperties, meterRegistry);
+    }
+
+    @Test
+    void getVerifiedToken_whenTokenIsRepeated_shouldVerifyOnlyOnce() {
+        // Given
+        String token = jwtTokenManager.generateToken(User.builder().username("testuser").userRole(UserRole.USER).build());
+
+        // When
+        VerifiedToken first = verifiedTokenCache.getVerifiedToken(token);
+        VerifiedToken second = verifiedTokenCache.getVerifiedToken(token);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(jwtTokenManager, times(1)).verifyToken(token);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void getVerifiedToken_whenTokenIsInvalid_shouldNotCacheFailure() {
+        // When & Then
+        assertThrows(JWTVerificationException.class, () -> verifiedTokenCache.getVerifiedToken("not-a-token"));
+        assertThrows(JWTVerificationException.class, () -> verifiedTokenCache.getVerifiedToken("not-a-token"));
+
+        verify(jwtTokenManager, times(2)).verifyToken("not-a-token");
+    }
+}
@@ -0,0 +1,77 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.model.User;
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.dto.AuthenticatedUserDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthenticatedUserCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AuthenticatedUserCache authenticatedUserCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        authenticatedUserCache = new AuthenticatedUserCache(userRepository, new UserCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void getAuthenticatedUser_whenCalledRepeatedly_shouldQueryRepositoryOnce() {
+        // Given
+        User user = User.builder().username("testuser").password("hash").userRole(UserRole.USER).build();
+        when(userRepository.findByUsername("testuser")).thenReturn(user);
+
+        // When
+        AuthenticatedUserDto first = authenticatedUserCache.getAuthenticatedUser("testuser");
+        AuthenticatedUserDto second = authenticatedUserCache.getAuthenticatedUser("testuser");
+
+        // Then
+        assertThat(first.getUsername()).isEqualTo("testuser");
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findByUsername("testuser");
+        assertThat(meterRegistry.get("cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void onUserChanged_shouldEvictCachedUser() {
+        // Given
+        User user = User.builder().username("testuser").password("hash").userRole(UserRole.USER).build();
+        when(userRepository.findByUsername("testuser")).thenReturn(user);
+        authenticatedUserCache.getAuthenticatedUser("testuser");
+
+        // When
+        authenticatedUserCache.onUserChanged(new UserChangedEvent("testuser"));
+        authenticatedUserCache.getAuthenticatedUser("testuser");
+
+        // Then
+        verify(userRepository, times(2)).findByUsername("testuser");
+    }
+
+    @Test
+    void getAuthenticatedUser_whenUserDoesNotExist_shouldNotCacheMiss() {
+        // When
+        AuthenticatedUserDto missing = authenticatedUserCache.getAuthenticatedUser("nonexistinguser");
+        authenticatedUserCache.getAuthenticatedUser("nonexistinguser");
+
+        // Then
+        assertThat(missing).isNull();
+        verify(userRepository, times(2)).findByUsername("nonexistinguser");
+    }
+}
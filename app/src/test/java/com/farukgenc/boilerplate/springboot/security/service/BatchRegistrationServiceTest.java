@@ -0,0 +1,174 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.model.User;
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.dto.BatchRegistrationResponse;
+import com.farukgenc.boilerplate.springboot.security.dto.BatchRegistrationResult;
+import com.farukgenc.boilerplate.springboot.utils.ExceptionMessageAccessor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doCallRealMethod;
+
+@SpringBootTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "password-encoder.bcrypt-strength=4",
+        "registration-batch.chunk-size=100",
+        "registration-batch.maximum-items=300",
+        "audit.table-enabled=false"
+})
+@AutoConfigureTestDatabase
+public class BatchRegistrationServiceTest {
+
+    @Autowired
+    private BatchRegistrationService batchRegistrationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExceptionMessageAccessor exceptionMessageAccessor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @SpyBean
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+
+        User user = User.builder()
+                .name("Existing User")
+                .username("existinguser")
+                .email("existinguser@example.com")
+                .password("password")
+                .userRole(UserRole.USER)
+                .build();
+        userRepository.save(user);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void registration_whenItemsAreInvalidOrTaken_shouldReportEachItem() throws Exception {
+        // Given
+        String body = "["
+                + item("newuser", "newuser@example.com") + ","
+                + item("existinguser", "other@example.com") + ","
+                + item("newuser", "another@example.com") + ","
+                + item("invaliduser", "not-an-email")
+                + "]";
+
+        // When
+        BatchRegistrationResponse response = batchRegistrationService.registration(toInputStream(body));
+
+        // Then
+        assertThat(response.getRegisteredCount()).isEqualTo(1);
+        assertThat(response.getRejectedCount()).isEqualTo(3);
+        assertThat(response.getResults()).extracting(BatchRegistrationResult::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(response.getResults()).extracting(BatchRegistrationResult::isRegistered).containsExactly(true, false, false, false);
+        assertThat(response.getResults().get(1).getMessage()).isEqualTo(exceptionMessageAccessor.getMessage(null, "username_already_exists"));
+        assertThat(response.getResults().get(2).getMessage()).isEqualTo(exceptionMessageAccessor.getMessage(null, "username_already_exists"));
+        assertThat(userRepository.existsByUsername("newuser")).isTrue();
+        assertThat(userRepository.existsByUsername("invaliduser")).isFalse();
+    }
+
+    @Test
+    void registration_whenBodyIsNdjson_shouldInsertInJdbcBatches() throws Exception {
+        // Given
+        String body = IntStream.range(0, 250)
+                .mapToObj(i -> item("user" + i, "user" + i + "@example.com"))
+                .collect(Collectors.joining("\n"));
+
+        // When
+        BatchRegistrationResponse response = batchRegistrationService.registration(toInputStream(body));
+
+        // Then
+        assertThat(response.getRegisteredCount()).isEqualTo(250);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(250);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(25);
+        assertThat(userRepository.count()).isEqualTo(251);
+    }
+
+    @Test
+    void registration_whenMaximumItemsIsExceeded_shouldSkipRemainingItems() throws Exception {
+        // Given
+        String body = IntStream.range(0, 305)
+                .mapToObj(i -> item("user" + i, "user" + i + "@example.com"))
+                .collect(Collectors.joining("\n"));
+
+        // When
+        BatchRegistrationResponse response = batchRegistrationService.registration(toInputStream(body));
+
+        // Then
+        assertThat(response.getRegisteredCount()).isEqualTo(300);
+        assertThat(response.getRejectedCount()).isEqualTo(1);
+        assertThat(response.getResults().get(300).getIndex()).isEqualTo(300);
+    }
+
+    @Test
+    void registration_whenItemIsMalformed_shouldKeepPreviousItems() throws Exception {
+        // Given
+        String body = item("newuser", "newuser@example.com") + "\n{\"username\": ";
+
+        // When
+        BatchRegistrationResponse response = batchRegistrationService.registration(toInputStream(body));
+
+        // Then
+        assertThat(response.getRegisteredCount()).isEqualTo(1);
+        assertThat(response.getResults().get(1).getMessage()).isEqualTo(exceptionMessageAccessor.getMessage(null, "registration_batch_malformed_item"));
+    }
+
+    @Test
+    void registration_whenHashingQueueIsFull_shouldKeepRegisteredChunksAndReportRestAsRetryable() throws Exception {
+        // Given
+        doCallRealMethod().doThrow(new RejectedExecutionException("queue is full")).when(passwordHashingExecutor).invokeAll(anyList(), any());
+        String body = IntStream.range(0, 250)
+                .mapToObj(i -> item("user" + i, "user" + i + "@example.com"))
+                .collect(Collectors.joining("\n"));
+
+        // When
+        BatchRegistrationResponse response = batchRegistrationService.registration(toInputStream(body));
+
+        // Then
+        assertThat(response.getRegisteredCount()).isEqualTo(100);
+        assertThat(response.getRejectedCount()).isEqualTo(150);
+        assertThat(response.getResults().subList(100, 250)).allSatisfy(result -> {
+            assertThat(result.isRetryable()).isTrue();
+            assertThat(result.getMessage()).isEqualTo(exceptionMessageAccessor.getMessage(null, "registration_batch_busy"));
+        });
+        assertThat(userRepository.count()).isEqualTo(101);
+    }
+
+    private static String item(String username, String email) {
+        return String.format("{\"name\":\"Test User\",\"username\":\"%s\",\"email\":\"%s\",\"password\":\"password123\"}", username, email);
+    }
+
+    private static InputStream toInputStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
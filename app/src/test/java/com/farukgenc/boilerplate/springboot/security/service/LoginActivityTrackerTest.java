@@ -0,0 +1,91 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.model.User;
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.dto.LoginActivityResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "login-activity.flush-interval=PT1H"
+})
+@AutoConfigureTestDatabase
+public class LoginActivityTrackerTest {
+
+    @Autowired
+    private LoginActivityTracker loginActivityTracker;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        loginActivityTracker.flush();
+        userRepository.deleteAll();
+
+        User user = User.builder()
+                .name("Test User")
+                .username("testuser")
+                .email("testuser@example.com")
+                .password("password")
+                .userRole(UserRole.USER)
+                .build();
+        userRepository.save(user);
+    }
+
+    @Test
+    void recordLogin_shouldCoalesceLoginsUntilFlush() {
+        // Given
+        loginActivityTracker.recordLogin("testuser");
+        loginActivityTracker.recordLogin("testuser");
+
+        // When
+        LoginActivityResponse pendingActivity = loginActivityTracker.getLoginActivity("testuser").orElseThrow();
+
+        // Then
+        assertThat(pendingActivity.getLoginCount()).isEqualTo(2);
+        assertThat(pendingActivity.getLastLoginAt()).isNotNull();
+        assertThat(userRepository.findLoginActivityByUsername("testuser").getLoginCount()).isZero();
+
+        // When
+        int writtenUsers = loginActivityTracker.flush();
+
+        // Then
+        assertThat(writtenUsers).isEqualTo(1);
+        assertThat(userRepository.findLoginActivityByUsername("testuser").getLoginCount()).isEqualTo(2);
+        assertThat(userRepository.findLoginActivityByUsername("testuser").getLastLoginAt()).isEqualTo(pendingActivity.getLastLoginAt());
+        assertThat(loginActivityTracker.getLoginActivity("testuser").orElseThrow().getLoginCount()).isEqualTo(2);
+        assertThat(loginActivityTracker.flush()).isZero();
+    }
+
+    @Test
+    void flush_whenUserWasInsertedWithoutLoginColumns_shouldStartCountingAtZero() {
+        // Given
+        jdbcTemplate.update("insert into USERS (id, name, username, email, password, user_role, token_version) values (?, ?, ?, ?, ?, ?, ?)",
+                -1L, "Reactive User", "reactiveuser", "reactiveuser@example.com", "password", UserRole.USER.name(), 0);
+        loginActivityTracker.recordLogin("reactiveuser");
+
+        // When
+        loginActivityTracker.flush();
+
+        // Then
+        assertThat(userRepository.findByUsername("reactiveuser").getLoginCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getLoginActivity_whenUserIsUnknown_shouldReturnEmpty() {
+        // When & Then
+        assertThat(loginActivityTracker.getLoginActivity("unknown")).isEmpty();
+    }
+}
@@ -0,0 +1,134 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.exceptions.LoginThrottledException;
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityAuditLog;
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityEventType;
+import com.farukgenc.boilerplate.springboot.utils.ExceptionMessageAccessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class LoginThrottleTest {
+
+    @Mock
+    private ExceptionMessageAccessor exceptionMessageAccessor;
+
+    @Mock
+    private SecurityAuditLog securityAuditLog;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LoginThrottleProperties loginThrottleProperties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginThrottleProperties = new LoginThrottleProperties();
+        loginThrottleProperties.setUsername(new LoginThrottleProperties.Limit(3, Duration.ofMinutes(1)));
+        loginThrottleProperties.setClientAddress(new LoginThrottleProperties.Limit(5, Duration.ofMillis(100)));
+    }
+
+    @Test
+    void checkAttempt_whenUsernameBucketIsEmpty_shouldThrottleOnlyThatUsername() {
+        // Given
+        LoginThrottle loginThrottle = new LoginThrottle(loginThrottleProperties, exceptionMessageAccessor, securityAuditLog, meterRegistry);
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.checkAttempt("victim", "10.0.0." + i);
+            loginThrottle.recordFailure("victim");
+        }
+
+        // When
+        LoginThrottledException exception = assertThrows(LoginThrottledException.class, () -> loginThrottle.checkAttempt("victim", "10.0.0.9"));
+
+        // Then
+        assertThat(exception.getRetryAfter()).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(1));
+        assertDoesNotThrow(() -> loginThrottle.checkAttempt("otheruser", "10.0.0.9"));
+        verify(securityAuditLog).publish(SecurityEventType.LOGIN_THROTTLED, "victim", "10.0.0.9");
+        assertThat(meterRegistry.get("auth.login.throttle").tag("key", "username").tag("result", "throttled").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.login.throttle").tag("key", "username").tag("result", "allowed").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    void checkAttempt_whenUsernameDiffersInCaseOrWhitespace_shouldShareTheBucket() {
+        // Given
+        LoginThrottle loginThrottle = new LoginThrottle(loginThrottleProperties, exceptionMessageAccessor, securityAuditLog, meterRegistry);
+        loginThrottle.recordFailure("Victim");
+        loginThrottle.recordFailure(" victim ");
+        loginThrottle.recordFailure("VICTIM");
+
+        // When & Then
+        assertThrows(LoginThrottledException.class, () -> loginThrottle.checkAttempt("victim", "10.0.0.1"));
+        assertThat(meterRegistry.get("auth.login.throttle.keys").tag("key", "username").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void checkAttempt_whenClientAddressBucketIsEmpty_shouldThrottleUntilItRefills() throws InterruptedException {
+        // Given
+        LoginThrottle loginThrottle = new LoginThrottle(loginThrottleProperties, exceptionMessageAccessor, securityAuditLog, meterRegistry);
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.checkAttempt("user" + i, "10.0.0.1");
+        }
+
+        // When
+        assertThrows(LoginThrottledException.class, () -> loginThrottle.checkAttempt("user5", "10.0.0.1"));
+        Thread.sleep(150);
+
+        // Then
+        assertDoesNotThrow(() -> loginThrottle.checkAttempt("user5", "10.0.0.1"));
+        assertThat(meterRegistry.get("auth.login.throttle").tag("key", "client_address").tag("result", "throttled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void checkAttempt_whenLoginsSucceed_shouldNotChargeUsernameBucket() {
+        // Given
+        LoginThrottle loginThrottle = new LoginThrottle(loginThrottleProperties, exceptionMessageAccessor, securityAuditLog, meterRegistry);
+
+        // When & Then
+        for (int i = 0; i < 10; i++) {
+            loginThrottle.checkAttempt("victim", "10.0.0." + i);
+        }
+    }
+
+    @Test
+    void checkAttempt_whenUsernameIsThrottled_shouldNotChargeClientAddressBucket() {
+        // Given
+        LoginThrottle loginThrottle = new LoginThrottle(loginThrottleProperties, exceptionMessageAccessor, securityAuditLog, meterRegistry);
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.recordFailure("victim");
+        }
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThrows(LoginThrottledException.class, () -> loginThrottle.checkAttempt("victim", "10.0.0.1"));
+        }
+
+        // Then
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.checkAttempt("user" + i, "10.0.0.1");
+        }
+        assertThrows(LoginThrottledException.class, () -> loginThrottle.checkAttempt("user5", "10.0.0.1"));
+    }
+
+    @Test
+    void checkAttempt_whenDisabled_shouldAllowEveryAttempt() {
+        // Given
+        loginThrottleProperties.setEnabled(false);
+        LoginThrottle loginThrottle = new LoginThrottle(loginThrottleProperties, exceptionMessageAccessor, securityAuditLog, meterRegistry);
+
+        // When & Then
+        for (int i = 0; i < 10; i++) {
+            loginThrottle.checkAttempt("victim", "10.0.0.1");
+        }
+    }
+}
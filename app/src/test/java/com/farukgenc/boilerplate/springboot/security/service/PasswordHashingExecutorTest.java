@@ -0,0 +1,106 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingExecutor = new PasswordHashingExecutor(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHashingExecutor.destroy();
+    }
+
+    @Test
+    void supplyAsync_whenQueueIsFull_shouldRejectImmediately() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<String> running = passwordHashingExecutor.supplyAsync(() -> {
+            started.countDown();
+            await(release);
+            return "running";
+        });
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = passwordHashingExecutor.supplyAsync(() -> "queued");
+
+        // When & Then
+        assertThrows(RejectedExecutionException.class, () -> passwordHashingExecutor.supplyAsync(() -> "rejected"));
+        assertThat(meterRegistry.get("executor.queued").tag("name", "password-hashing").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("running");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+        assertThat(meterRegistry.get("executor.idle").tag("name", "password-hashing").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void invoke_shouldRunOnPoolAndRethrowFailures() {
+        // When
+        String threadName = passwordHashingExecutor.invoke(() -> Thread.currentThread().getName());
+
+        // Then
+        assertThat(threadName).startsWith("password-hashing-");
+        assertThrows(IllegalStateException.class, () -> passwordHashingExecutor.invoke(() -> {
+            throw new IllegalStateException("failed");
+        }));
+    }
+
+    @Test
+    void invokeAll_whenQueueIsFull_shouldRejectInsteadOfRunningOnCaller() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        passwordHashingExecutor.supplyAsync(() -> {
+            started.countDown();
+            await(release);
+            return "running";
+        });
+        started.await(5, TimeUnit.SECONDS);
+        passwordHashingExecutor.supplyAsync(() -> "queued");
+        Thread caller = Thread.currentThread();
+        AtomicBoolean ranOnCaller = new AtomicBoolean();
+
+        // When & Then
+        assertThrows(RejectedExecutionException.class, () -> passwordHashingExecutor.invokeAll(List.of("item"), item -> {
+            ranOnCaller.compareAndSet(false, Thread.currentThread() == caller);
+            return item;
+        }));
+        assertThat(ranOnCaller).isFalse();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.model.RevokedToken;
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.repository.RevokedTokenRepository;
+import com.farukgenc.boilerplate.springboot.security.jwt.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationRegistryTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationRegistry = new TokenRevocationRegistry(revokedTokenRepository, new TokenRevocationProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void loadRevokedTokens_shouldRejectTokensRevokedBeforeStartup() {
+        // Given
+        RevokedToken revokedToken = RevokedToken.builder().tokenId("revoked").username("testuser").revokedAt(Instant.now()).expiresAt(Instant.now().plusSeconds(60)).build();
+        when(revokedTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(any(), any())).thenReturn(List.of(revokedToken));
+
+        // When
+        tokenRevocationRegistry.loadRevokedTokens();
+
+        // Then
+        assertThat(tokenRevocationRegistry.isRevoked(verifiedToken("revoked", Instant.now().plusSeconds(60)))).isTrue();
+        assertThat(tokenRevocationRegistry.isRevoked(verifiedToken("other", Instant.now().plusSeconds(60)))).isFalse();
+        assertThat(tokenRevocationRegistry.isRevoked(verifiedToken(null, Instant.now().plusSeconds(60)))).isFalse();
+    }
+
+    @Test
+    void refreshRevokedTokens_shouldReadSinceLatestStoredRevocationMinusOverlap() {
+        // Given
+        Instant revokedAt = Instant.parse("2026-10-01T12:00:00Z");
+        RevokedToken revokedToken = RevokedToken.builder().tokenId("revoked").username("testuser").revokedAt(revokedAt).expiresAt(Instant.now().plusSeconds(60)).build();
+        when(revokedTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(any(), any())).thenReturn(List.of(revokedToken), List.of());
+        tokenRevocationRegistry.loadRevokedTokens();
+
+        // When
+        tokenRevocationRegistry.refreshRevokedTokens();
+        tokenRevocationRegistry.refreshRevokedTokens();
+
+        // Then
+        verify(revokedTokenRepository, times(2)).findByRevokedAtGreaterThanEqualAndExpiresAtAfter(eq(revokedAt.minus(Duration.ofMinutes(1))), any());
+    }
+
+    @Test
+    void revoke_shouldPersistRevocationAndForgetItOnceTokenExpires() throws InterruptedException {
+        // Given
+        VerifiedToken liveToken = verifiedToken("live", Instant.now().plusSeconds(60));
+        VerifiedToken expiringToken = verifiedToken("expiring", Instant.now().plusMillis(100));
+
+        // When
+        tokenRevocationRegistry.revoke(liveToken);
+        tokenRevocationRegistry.revoke(expiringToken);
+        Thread.sleep(200);
+
+        // Then
+        assertThat(tokenRevocationRegistry.isRevoked(liveToken)).isTrue();
+        assertThat(tokenRevocationRegistry.isRevoked(expiringToken)).isFalse();
+        verify(revokedTokenRepository, times(2)).save(any(RevokedToken.class));
+    }
+
+    @Test
+    void revoke_shouldEnforceRevocationOnlyOnceTransactionCommits() {
+        // Given
+        VerifiedToken rolledBackToken = verifiedToken("rolled-back", Instant.now().plusSeconds(60));
+        VerifiedToken committedToken = verifiedToken("committed", Instant.now().plusSeconds(60));
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tokenRevocationRegistry.revoke(rolledBackToken);
+            assertThat(tokenRevocationRegistry.isRevoked(rolledBackToken)).isFalse();
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        }
+        finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tokenRevocationRegistry.revoke(committedToken);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        }
+        finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(tokenRevocationRegistry.isRevoked(rolledBackToken)).isFalse();
+        assertThat(tokenRevocationRegistry.isRevoked(committedToken)).isTrue();
+    }
+
+    private static VerifiedToken verifiedToken(String tokenId, Instant expiresAt) {
+        return new VerifiedToken(tokenId, "testuser", UserRole.USER, 0, Instant.now(), expiresAt);
+    }
+}
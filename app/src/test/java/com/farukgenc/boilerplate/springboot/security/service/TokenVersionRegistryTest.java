@@ -0,0 +1,100 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.model.User;
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.jwt.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenVersionRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersionRegistry = new TokenVersionRegistry(userRepository);
+    }
+
+    @Test
+    void refreshTokenVersions_shouldRejectTokensInvalidatedOnAnotherInstance() {
+        // Given
+        when(userRepository.findByTokenVersionGreaterThan(0)).thenReturn(List.of());
+        tokenVersionRegistry.loadTokenVersions();
+        assertThat(tokenVersionRegistry.isCurrent(verifiedToken(0))).isTrue();
+
+        when(userRepository.findByTokenVersionGreaterThan(0)).thenReturn(List.of(User.builder().username("testuser").tokenVersion(1).build()));
+
+        // When
+        tokenVersionRegistry.refreshTokenVersions();
+
+        // Then
+        assertThat(tokenVersionRegistry.isCurrent(verifiedToken(0))).isFalse();
+        assertThat(tokenVersionRegistry.isCurrent(verifiedToken(1))).isTrue();
+    }
+
+    @Test
+    void refreshTokenVersions_shouldNeverLowerVersion() {
+        // Given
+        when(userRepository.findTokenVersionByUsername("testuser")).thenReturn(2);
+        tokenVersionRegistry.invalidateTokens("testuser");
+        when(userRepository.findByTokenVersionGreaterThan(0)).thenReturn(List.of(User.builder().username("testuser").tokenVersion(1).build()));
+
+        // When
+        tokenVersionRegistry.refreshTokenVersions();
+
+        // Then
+        assertThat(tokenVersionRegistry.isCurrent(verifiedToken(1))).isFalse();
+        assertThat(tokenVersionRegistry.isCurrent(verifiedToken(2))).isTrue();
+    }
+
+    @Test
+    void invalidateTokens_shouldRejectTokensOnlyOnceTransactionCommits() {
+        // Given
+        when(userRepository.findTokenVersionByUsername("testuser")).thenReturn(1);
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tokenVersionRegistry.invalidateTokens("testuser");
+            assertThat(tokenVersionRegistry.isCurrent(verifiedToken(0))).isTrue();
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        }
+        finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(tokenVersionRegistry.isCurrent(verifiedToken(0))).isTrue();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tokenVersionRegistry.invalidateTokens("testuser");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        }
+        finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(tokenVersionRegistry.isCurrent(verifiedToken(0))).isFalse();
+        assertThat(tokenVersionRegistry.isCurrent(verifiedToken(1))).isTrue();
+    }
+
+    private static VerifiedToken verifiedToken(int tokenVersion) {
+        return new VerifiedToken("token-id", "testuser", UserRole.USER, tokenVersion, Instant.now(), Instant.now().plusSeconds(60));
+    }
+}
@@ -0,0 +1,112 @@
+package com.farukgenc.boilerplate.springboot.security.service;
+
+import com.farukgenc.boilerplate.springboot.exceptions.RegistrationException;
+import com.farukgenc.boilerplate.springboot.model.User;
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationRequest;
+import com.farukgenc.boilerplate.springboot.utils.ExceptionMessageAccessor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase
+public class UserServiceImplTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExceptionMessageAccessor exceptionMessageAccessor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void registration_whenUserIsNew_shouldIssueOnlyTheInsert() {
+        // Given
+        RegistrationRequest registrationRequest = createRegistrationRequest("newuser", "newuser@example.com");
+
+        // When
+        userService.registration(registrationRequest);
+
+        // Then
+        // The insert, plus a sequence call once per allocation block of ids
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(userRepository.existsByEmail("newuser@example.com")).isTrue();
+    }
+
+    @Test
+    void registration_whenEmailIsTakenConcurrently_shouldTranslateConstraintViolation() {
+        // Given
+        saveUserBypassingRegistration("someoneelse", "taken@example.com");
+        RegistrationRequest registrationRequest = createRegistrationRequest("newuser", "taken@example.com");
+
+        // When
+        RegistrationException exception = assertThrows(RegistrationException.class, () -> userService.registration(registrationRequest));
+
+        // Then
+        assertThat(exception.getErrorMessage()).isEqualTo(exceptionMessageAccessor.getMessage(null, "email_already_exists"));
+    }
+
+    @Test
+    void registration_whenUsernameIsTakenConcurrently_shouldTranslateConstraintViolation() {
+        // Given
+        saveUserBypassingRegistration("takenuser", "someoneelse@example.com");
+        RegistrationRequest registrationRequest = createRegistrationRequest("takenuser", "newuser@example.com");
+
+        // When
+        RegistrationException exception = assertThrows(RegistrationException.class, () -> userService.registration(registrationRequest));
+
+        // Then
+        assertThat(exception.getErrorMessage()).isEqualTo(exceptionMessageAccessor.getMessage(null, "username_already_exists"));
+    }
+
+    private void saveUserBypassingRegistration(String username, String email) {
+        User user = User.builder()
+                .name("Existing User")
+                .username(username)
+                .email(email)
+                .password("password")
+                .userRole(UserRole.USER)
+                .build();
+        userRepository.save(user);
+    }
+
+    private static RegistrationRequest createRegistrationRequest(String username, String email) {
+        RegistrationRequest registrationRequest = new RegistrationRequest();
+        registrationRequest.setName("New User");
+        registrationRequest.setUsername(username);
+        registrationRequest.setEmail(email);
+        registrationRequest.setPassword("password123");
+        return registrationRequest;
+    }
+}
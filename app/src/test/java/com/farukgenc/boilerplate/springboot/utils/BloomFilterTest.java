@@ -0,0 +1,47 @@
+package com.farukgenc.boilerplate.springboot.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+public class BloomFilterTest {
+
+    @Test
+    void mightContain_whenValueWasPut_shouldAlwaysReturnTrue() {
+        // Given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("user" + i);
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(bloomFilter.mightContain("user" + i)).isTrue();
+        }
+        assertThat(bloomFilter.getInsertions()).isEqualTo(10_000);
+    }
+
+    @Test
+    void mightContain_whenFilledToExpectedInsertions_shouldStayNearConfiguredFalsePositiveProbability() {
+        // Given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("user" + i + "@mail.com");
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (bloomFilter.mightContain("other" + i + "@mail.com")) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(bloomFilter.getExpectedFalsePositiveProbability()).isCloseTo(0.01, offset(0.005));
+    }
+}
@@ -0,0 +1,73 @@
+package com.farukgenc.boilerplate.springboot.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RingBufferTest {
+
+    @Test
+    void offer_whenBufferIsFull_shouldRejectUntilDrained() {
+        // Given
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>(3);
+        for (int i = 0; i < ringBuffer.capacity(); i++) {
+            assertThat(ringBuffer.offer(i)).isTrue();
+        }
+
+        // When
+        boolean offeredWhenFull = ringBuffer.offer(99);
+        List<Integer> drained = new ArrayList<>();
+        int drainedCount = ringBuffer.drainTo(drained, 2);
+
+        // Then
+        assertThat(ringBuffer.capacity()).isEqualTo(4);
+        assertThat(offeredWhenFull).isFalse();
+        assertThat(drainedCount).isEqualTo(2);
+        assertThat(drained).containsExactly(0, 1);
+        assertThat(ringBuffer.offer(4)).isTrue();
+        assertThat(ringBuffer.size()).isEqualTo(3);
+    }
+
+    @Test
+    void drainTo_whenManyProducersOffer_shouldReceiveEveryElementOnce() throws InterruptedException {
+        // Given
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>(1024);
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(4);
+
+        // When
+        for (int producer = 0; producer < 4; producer++) {
+            int offset = producer * 10_000;
+            producers.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    while (!ringBuffer.offer(offset + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Integer> received = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        while (done.getCount() > 0 || ringBuffer.size() > 0) {
+            batch.clear();
+            ringBuffer.drainTo(batch, 100);
+            received.addAll(batch);
+        }
+        producers.shutdown();
+        producers.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(received).hasSize(40_000);
+    }
+}
@@ -0,0 +1,58 @@
+package com.farukgenc.boilerplate.springboot;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Created on October, 2026
+ *
+ * Runs the benchmarks with the usual JMH command line options, but writes the results as JSON to
+ * jmh-result-{version}.json unless another result format or file is given, so runs of two releases can be diffed.
+ *
+ * @author Faruk
+ */
+public final class BenchmarkRunner {
+
+	private static final String DEVELOPMENT_VERSION = "dev";
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+
+		final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+		if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList() || commandLineOptions.shouldListProfilers()) {
+			org.openjdk.jmh.Main.main(args);
+			return;
+		}
+
+		final ChainedOptionsBuilder optionsBuilder = new OptionsBuilder().parent(commandLineOptions);
+
+		if (!commandLineOptions.getResultFormat().hasValue()) {
+			optionsBuilder.resultFormat(ResultFormatType.JSON);
+		}
+
+		if (!commandLineOptions.getResult().hasValue()) {
+			optionsBuilder.result("jmh-result-" + getVersion() + ".json");
+		}
+
+		new Runner(optionsBuilder.build()).run();
+	}
+
+	private static String getVersion() {
+
+		final String implementationVersion = BenchmarkRunner.class.getPackage().getImplementationVersion();
+
+		return Objects.isNull(implementationVersion) ? DEVELOPMENT_VERSION : implementationVersion;
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.farukgenc.boilerplate.springboot.configuration;
+
+import com.farukgenc.boilerplate.springboot.security.dto.LoginRequest;
+import com.farukgenc.boilerplate.springboot.security.dto.LoginResponse;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationRequest;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created on October, 2026
+ *
+ * Reading and writing the bodies of /login and /register with the default Jackson converter and with the converter
+ * the application puts in front of it for these types.
+ *
+ * @author Faruk
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthJsonBenchmark {
+
+	private static final byte[] LOGIN_REQUEST = "{\"username\":\"benchmark\",\"password\":\"benchmark-password\"}".getBytes(StandardCharsets.UTF_8);
+
+	//@formatter:off
+	private static final byte[] REGISTRATION_REQUEST = "{\"name\":\"Benchmark\",\"email\":\"benchmark@farukgenc.com\",\"username\":\"benchmark\",\"password\":\"benchmark-password\"}"
+			.getBytes(StandardCharsets.UTF_8);
+	//@formatter:on
+
+	@Param({"jackson", "auth"})
+	private String converter;
+
+	private AbstractHttpMessageConverter<Object> httpMessageConverter;
+
+	private LoginResponse loginResponse;
+
+	private RegistrationResponse registrationResponse;
+
+	@Setup
+	public void setUp() {
+
+		// As configured by Spring Boot
+		final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+		if ("auth".equals(converter)) {
+			httpMessageConverter = new AuthJsonHttpMessageConverter(objectMapper, JsonConfiguration.AUTH_BODY_TYPES);
+		}
+		else {
+			httpMessageConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+		}
+
+		loginResponse = new LoginResponse("eyJ0eXAiOiJKV1QiLCJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJiZW5jaG1hcmsifQ.signature", "anOA5gRjKOJV07AegYe44xNbmpHZ7Xrinv9nhEOdvYY");
+		registrationResponse = new RegistrationResponse("benchmark registered successfully!");
+	}
+
+	@Benchmark
+	public Object readLoginRequest() throws IOException {
+		return httpMessageConverter.read(LoginRequest.class, inputMessage(LOGIN_REQUEST));
+	}
+
+	@Benchmark
+	public Object readRegistrationRequest() throws IOException {
+		return httpMessageConverter.read(RegistrationRequest.class, inputMessage(REGISTRATION_REQUEST));
+	}
+
+	@Benchmark
+	public byte[] writeLoginResponse() throws IOException {
+
+		final MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		httpMessageConverter.write(loginResponse, MediaType.APPLICATION_JSON, outputMessage);
+
+		return outputMessage.getBodyAsBytes();
+	}
+
+	@Benchmark
+	public byte[] writeRegistrationResponse() throws IOException {
+
+		final MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		httpMessageConverter.write(registrationResponse, MediaType.APPLICATION_JSON, outputMessage);
+
+		return outputMessage.getBodyAsBytes();
+	}
+
+	private static MockHttpInputMessage inputMessage(byte[] body) {
+
+		final MockHttpInputMessage inputMessage = new MockHttpInputMessage(body);
+		inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+		return inputMessage;
+	}
+
+}
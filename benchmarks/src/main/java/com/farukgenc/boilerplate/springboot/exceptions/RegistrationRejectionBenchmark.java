@@ -0,0 +1,116 @@
+package com.farukgenc.boilerplate.springboot.exceptions;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created on October, 2026
+ *
+ * Cost of rejecting a duplicate registration, from throwing the exception to the serialized response body. The
+ * "before" variants throw an exception that captures its stack trace and serialize a new ApiExceptionResponse with
+ * Jackson, as the application did before rejections became stackless and their bodies were cached. The exception is
+ * thrown stackDepth frames deep, a request reaches the validation at a depth of more than a hundred frames.
+ *
+ * Run with -prof gc to compare allocations as well.
+ *
+ * @author Faruk
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RegistrationRejectionBenchmark {
+
+	private static final String MESSAGE = "Bu kullanıcı adı zaten kullanılıyor!";
+
+	@Param({"16", "128"})
+	private int stackDepth;
+
+	private ObjectMapper objectMapper;
+
+	private ApiExceptionResponseCache apiExceptionResponseCache;
+
+	@Setup
+	public void setUp() {
+
+		objectMapper = Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+		apiExceptionResponseCache = new ApiExceptionResponseCache(objectMapper);
+	}
+
+	@Benchmark
+	public byte[] rejectBefore() throws JsonProcessingException {
+
+		try {
+			throwAtDepth(stackDepth, false);
+		}
+		catch (StackTraceRegistrationException e) {
+			return objectMapper.writeValueAsBytes(new ApiExceptionResponse(e.getErrorMessage(), HttpStatus.BAD_REQUEST, LocalDateTime.now()));
+		}
+
+		throw new IllegalStateException();
+	}
+
+	@Benchmark
+	public byte[] rejectAfter() {
+
+		try {
+			throwAtDepth(stackDepth, true);
+		}
+		catch (RegistrationException e) {
+			return apiExceptionResponseCache.getBody(HttpStatus.BAD_REQUEST, e.getErrorMessage());
+		}
+
+		throw new IllegalStateException();
+	}
+
+	private static void throwAtDepth(int depth, boolean stackless) {
+
+		if (depth > 0) {
+			throwAtDepth(depth - 1, stackless);
+			return;
+		}
+
+		if (stackless) {
+			throw new RegistrationException(MESSAGE);
+		}
+
+		throw new StackTraceRegistrationException(MESSAGE);
+	}
+
+	/**
+	 * RegistrationException as it was, capturing the stack trace.
+	 */
+	private static class StackTraceRegistrationException extends RuntimeException {
+
+		private final String errorMessage;
+
+		StackTraceRegistrationException(String errorMessage) {
+			this.errorMessage = errorMessage;
+		}
+
+		String getErrorMessage() {
+			return errorMessage;
+		}
+
+	}
+
+}
@@ -0,0 +1,118 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.repository.AuditEventRepository;
+import com.farukgenc.boilerplate.springboot.repository.RevokedTokenRepository;
+import com.farukgenc.boilerplate.springboot.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.audit.AuditProperties;
+import com.farukgenc.boilerplate.springboot.security.audit.SecurityAuditLog;
+import com.farukgenc.boilerplate.springboot.security.dto.AuthenticatedUserDetails;
+import com.farukgenc.boilerplate.springboot.security.dto.AuthenticatedUserDto;
+import com.farukgenc.boilerplate.springboot.security.service.TokenRevocationProperties;
+import com.farukgenc.boilerplate.springboot.security.service.TokenRevocationRegistry;
+import com.farukgenc.boilerplate.springboot.security.service.TokenVersionRegistry;
+import com.farukgenc.boilerplate.springboot.security.service.UserDetailsServiceImpl;
+import com.farukgenc.boilerplate.springboot.security.service.UserService;
+import com.farukgenc.boilerplate.springboot.security.utils.SecurityConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created on October, 2026
+ *
+ * Authenticates a request carrying a valid bearer token. The user service and repository are mocked, so the stateful
+ * variant measures the filter without the database round-trip.
+ *
+ * @author Faruk
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+	@Param({"true", "false"})
+	private boolean statelessAuthentication;
+
+	@Param({"true", "false"})
+	private boolean tokenCache;
+
+	private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+	private MockHttpServletRequest request;
+
+	private MockHttpServletResponse response;
+
+	private FilterChain filterChain;
+
+	private Authentication authentication;
+
+	@Setup
+	public void setUp() throws IOException, GeneralSecurityException {
+
+		final JwtProperties jwtProperties = JwtTokenManagerBenchmark.createJwtProperties(statelessAuthentication, tokenCache);
+		final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		final JwtTokenManager jwtTokenManager = new JwtTokenManager(jwtProperties, new JwtKeyProvider(jwtProperties), meterRegistry);
+		final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtTokenManager, jwtProperties, meterRegistry);
+
+		final UserRepository userRepository = Mockito.mock(UserRepository.class);
+		Mockito.when(userRepository.findByTokenVersionGreaterThan(0)).thenReturn(Collections.emptyList());
+		final TokenVersionRegistry tokenVersionRegistry = new TokenVersionRegistry(userRepository);
+		final TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry(Mockito.mock(RevokedTokenRepository.class), new TokenRevocationProperties(), meterRegistry);
+		final SecurityAuditLog securityAuditLog = new SecurityAuditLog(Mockito.mock(AuditEventRepository.class), new AuditProperties(), new ObjectMapper(), meterRegistry);
+
+		final AuthenticatedUserDto authenticatedUserDto = new AuthenticatedUserDto();
+		authenticatedUserDto.setUsername(JwtTokenManagerBenchmark.USERNAME);
+		authenticatedUserDto.setPassword("encoded");
+		authenticatedUserDto.setUserRole(UserRole.USER);
+		final UserService userService = Mockito.mock(UserService.class);
+		Mockito.when(userService.findAuthenticatedUserByUsername(JwtTokenManagerBenchmark.USERNAME)).thenReturn(authenticatedUserDto);
+
+		jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtProperties, verifiedTokenCache, tokenVersionRegistry, tokenRevocationRegistry, new UserDetailsServiceImpl(userService, meterRegistry), securityAuditLog, meterRegistry);
+
+		final String token = jwtTokenManager.generateToken(new AuthenticatedUserDetails(JwtTokenManagerBenchmark.USERNAME, "", UserRole.USER, 0));
+		request = new MockHttpServletRequest("GET", "/hello");
+		request.addHeader(SecurityConstants.HEADER_STRING, SecurityConstants.TOKEN_PREFIX + token);
+		response = new MockHttpServletResponse();
+		filterChain = (req, res) -> authentication = SecurityContextHolder.getContext().getAuthentication();
+	}
+
+	@Benchmark
+	public Authentication doFilterInternal() throws ServletException, IOException {
+
+		try {
+			jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+			return authentication;
+		}
+		finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+
+}
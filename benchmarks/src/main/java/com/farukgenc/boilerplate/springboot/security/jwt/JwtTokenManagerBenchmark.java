@@ -0,0 +1,79 @@
+package com.farukgenc.boilerplate.springboot.security.jwt;
+
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.security.dto.AuthenticatedUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenManagerBenchmark {
+
+	static final String USERNAME = "benchmark";
+
+	@Param({"HS256", "RS256", "ES256"})
+	private JwtProperties.SigningAlgorithm algorithm;
+
+	private JwtTokenManager jwtTokenManager;
+
+	private JwtClaimsSource claimsSource;
+
+	private String token;
+
+	@Setup
+	public void setUp() throws IOException, GeneralSecurityException {
+
+		final JwtProperties jwtProperties = createJwtProperties(false, false);
+		jwtProperties.setAlgorithm(algorithm);
+
+		jwtTokenManager = new JwtTokenManager(jwtProperties, new JwtKeyProvider(jwtProperties), new SimpleMeterRegistry());
+		claimsSource = new AuthenticatedUserDetails(USERNAME, "", UserRole.USER, 0);
+		token = jwtTokenManager.generateToken(claimsSource);
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtTokenManager.generateToken(claimsSource);
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return jwtTokenManager.validateToken(token, USERNAME);
+	}
+
+	static JwtProperties createJwtProperties(boolean statelessAuthentication, boolean tokenCache) {
+
+		final JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setIssuer("www.farukgenc.com");
+		jwtProperties.setSecretKey("secret");
+		jwtProperties.setExpirationMinute(10);
+		jwtProperties.setStatelessAuthentication(statelessAuthentication);
+		jwtProperties.getTokenCache().setEnabled(tokenCache);
+
+		return jwtProperties;
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.farukgenc.boilerplate.springboot.security.mapper;
+
+import com.farukgenc.boilerplate.springboot.model.User;
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.security.dto.AuthenticatedUserDto;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserMapperBenchmark {
+
+	private RegistrationRequest registrationRequest;
+
+	private User user;
+
+	private AuthenticatedUserDto authenticatedUserDto;
+
+	@Setup
+	public void setUp() {
+
+		registrationRequest = new RegistrationRequest();
+		registrationRequest.setName("Benchmark");
+		registrationRequest.setEmail("benchmark@farukgenc.com");
+		registrationRequest.setUsername("benchmark");
+		registrationRequest.setPassword("benchmark-password");
+
+		//@formatter:off
+		user = User.builder()
+				.id(1L)
+				.name("Benchmark")
+				.email("benchmark@farukgenc.com")
+				.username("benchmark")
+				.password("encoded")
+				.userRole(UserRole.USER)
+				.build();
+		//@formatter:on
+
+		authenticatedUserDto = UserMapper.INSTANCE.convertToAuthenticatedUserDto(user);
+	}
+
+	@Benchmark
+	public User convertRegistrationRequestToUser() {
+		return UserMapper.INSTANCE.convertToUser(registrationRequest);
+	}
+
+	@Benchmark
+	public AuthenticatedUserDto convertToAuthenticatedUserDto() {
+		return UserMapper.INSTANCE.convertToAuthenticatedUserDto(user);
+	}
+
+	@Benchmark
+	public User convertAuthenticatedUserDtoToUser() {
+		return UserMapper.INSTANCE.convertToUser(authenticatedUserDto);
+	}
+
+}
@@ -0,0 +1,79 @@
+package com.farukgenc.boilerplate.springboot.utils;
+
+import com.farukgenc.boilerplate.springboot.configuration.MessageConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created on October, 2026
+ *
+ * The accessors are taken from a context built from the application's own message configuration, so the benchmark
+ * follows whatever message sources the application uses.
+ *
+ * @author Faruk
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageAccessorBenchmark {
+
+	private static final String REGISTRATION_SUCCESSFUL = "registration_successful";
+
+	private static final String USERNAME_ALREADY_EXISTS = "username_already_exists";
+
+	private AnnotationConfigApplicationContext applicationContext;
+
+	private GeneralMessageAccessor generalMessageAccessor;
+
+	private ExceptionMessageAccessor exceptionMessageAccessor;
+
+	@Setup
+	public void setUp() {
+
+		applicationContext = new AnnotationConfigApplicationContext(MessageConfiguration.class, GeneralMessageAccessor.class, ExceptionMessageAccessor.class);
+		generalMessageAccessor = applicationContext.getBean(GeneralMessageAccessor.class);
+		exceptionMessageAccessor = applicationContext.getBean(ExceptionMessageAccessor.class);
+	}
+
+	@TearDown
+	public void tearDown() {
+		applicationContext.close();
+	}
+
+	@Benchmark
+	public String generalMessageWithDefaultLocale() {
+		return generalMessageAccessor.getMessage(null, REGISTRATION_SUCCESSFUL, "benchmark");
+	}
+
+	@Benchmark
+	public String generalMessageWithRequestLocale() {
+		return generalMessageAccessor.getMessage(Locale.ENGLISH, REGISTRATION_SUCCESSFUL, "benchmark");
+	}
+
+	@Benchmark
+	public String exceptionMessageWithDefaultLocale() {
+		return exceptionMessageAccessor.getMessage(null, USERNAME_ALREADY_EXISTS);
+	}
+
+	@Benchmark
+	public String exceptionMessageWithRequestLocale() {
+		return exceptionMessageAccessor.getMessage(Locale.ENGLISH, USERNAME_ALREADY_EXISTS);
+	}
+
+}
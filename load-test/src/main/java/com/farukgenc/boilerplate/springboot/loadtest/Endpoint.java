@@ -0,0 +1,23 @@
+package com.farukgenc.boilerplate.springboot.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Endpoint {
+
+	REGISTRATION("/register"),
+
+	LOGIN("/login"),
+
+	HELLO("/hello");
+
+	private final String path;
+
+}
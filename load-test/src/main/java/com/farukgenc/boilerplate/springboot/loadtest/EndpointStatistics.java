@@ -0,0 +1,70 @@
+package com.farukgenc.boilerplate.springboot.loadtest;
+
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Created on October, 2026
+ *
+ * Latencies of one endpoint in microseconds, together with the number of responses per status code.
+ *
+ * @author Faruk
+ */
+public class EndpointStatistics {
+
+	/**
+	 * Recorded when the request could not be completed at all, e.g. on a timeout.
+	 */
+	public static final int FAILED_REQUEST = -1;
+
+	private static final int SIGNIFICANT_DIGITS = 3;
+
+	@Getter
+	private final Endpoint endpoint;
+
+	private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+
+	private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+	public EndpointStatistics(Endpoint endpoint) {
+		this.endpoint = endpoint;
+	}
+
+	public void record(long elapsedNanos, int status) {
+
+		recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+		statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+	}
+
+	/**
+	 * Drops everything recorded so far, used at the end of the warmup.
+	 */
+	public void reset() {
+
+		recorder.reset();
+		statusCounts.clear();
+	}
+
+	/**
+	 * @return latencies recorded since the last reset
+	 */
+	public Histogram getHistogram() {
+		return recorder.getIntervalHistogram();
+	}
+
+	public Map<Integer, Long> getStatusCounts() {
+
+		final Map<Integer, Long> counts = new TreeMap<>();
+		statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+
+		return counts;
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.farukgenc.boilerplate.springboot.loadtest;
+
+import com.farukgenc.boilerplate.springboot.SpringBootBoilerplateApplication;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Created on October, 2026
+ *
+ * Starts the application on an embedded H2 database in PostgreSQL mode, or targets the instance given with
+ * --load-test.base-url, and drives the configured workload against it. The load-test.* settings are given as
+ * --key=value arguments or system properties, the embedded application also reads them from its profile file.
+ *
+ * @author Faruk
+ */
+public final class LoadTestApplication {
+
+	private static final String PROFILE = "load-test";
+
+	private LoadTestApplication() {
+	}
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+
+		final ConfigurableEnvironment environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+
+		LoadTestProperties properties = bindProperties(environment);
+		ConfigurableApplicationContext applicationContext = null;
+		String baseUrl = properties.getBaseUrl();
+
+		if (StringUtils.isBlank(baseUrl)) {
+			System.out.println("Starting the application on the embedded database");
+			applicationContext = new SpringApplicationBuilder(SpringBootBoilerplateApplication.class).profiles(PROFILE).run(args);
+
+			final int port = ((WebServerApplicationContext) applicationContext).getWebServer().getPort();
+			baseUrl = "http://localhost:" + port;
+			properties = bindProperties(applicationContext.getEnvironment());
+		}
+
+		try {
+			final LoadTestClient client = new LoadTestClient(baseUrl, properties.getRequestTimeout());
+			final Duration measuredPeriod = new LoadTestRunner(properties, client).run();
+
+			new LoadTestReport(client, properties.getReportDirectory()).write(measuredPeriod, System.out);
+		}
+		finally {
+			if (Objects.nonNull(applicationContext)) {
+				applicationContext.close();
+			}
+		}
+	}
+
+	private static LoadTestProperties bindProperties(ConfigurableEnvironment environment) {
+		return Binder.get(environment).bind(LoadTestProperties.PREFIX, LoadTestProperties.class).orElseGet(LoadTestProperties::new);
+	}
+
+}
@@ -0,0 +1,163 @@
+package com.farukgenc.boilerplate.springboot.loadtest;
+
+import com.farukgenc.boilerplate.springboot.security.dto.LoginRequest;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationRequest;
+import com.farukgenc.boilerplate.springboot.security.utils.SecurityConstants;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Created on October, 2026
+ *
+ * Sends the requests of the workload and records the latency and status of each one.
+ *
+ * @author Faruk
+ */
+@Slf4j
+public class LoadTestClient {
+
+	private static final String CONTENT_TYPE = "Content-Type";
+
+	private static final String APPLICATION_JSON = "application/json";
+
+	private static final String TOKEN_FIELD = "token";
+
+	private final String baseUrl;
+
+	private final Duration requestTimeout;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final Map<Endpoint, EndpointStatistics> statistics = new EnumMap<>(Endpoint.class);
+
+	//@formatter:off
+	private final HttpClient httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+	//@formatter:on
+
+	public LoadTestClient(String baseUrl, Duration requestTimeout) {
+
+		this.baseUrl = baseUrl;
+		this.requestTimeout = requestTimeout;
+
+		for (Endpoint endpoint : Endpoint.values()) {
+			statistics.put(endpoint, new EndpointStatistics(endpoint));
+		}
+	}
+
+	public boolean register(String username, String password) {
+
+		final RegistrationRequest registrationRequest = new RegistrationRequest();
+		registrationRequest.setName(username);
+		registrationRequest.setEmail(username + "@load-test.local");
+		registrationRequest.setUsername(username);
+		registrationRequest.setPassword(password);
+
+		final HttpResponse<String> response = send(Endpoint.REGISTRATION, post(Endpoint.REGISTRATION, registrationRequest));
+
+		return isSuccessful(response);
+	}
+
+	/**
+	 * @return the issued token, or null if the login failed
+	 */
+	public String login(String username, String password) {
+
+		final LoginRequest loginRequest = new LoginRequest();
+		loginRequest.setUsername(username);
+		loginRequest.setPassword(password);
+
+		final HttpResponse<String> response = send(Endpoint.LOGIN, post(Endpoint.LOGIN, loginRequest));
+
+		if (!isSuccessful(response)) {
+			return null;
+		}
+
+		try {
+			return objectMapper.readTree(response.body()).path(TOKEN_FIELD).asText(null);
+		}
+		catch (JsonProcessingException e) {
+			log.warn("Login response could not be read : {}", e.getMessage());
+			return null;
+		}
+	}
+
+	public boolean hello(String token) {
+
+		//@formatter:off
+		final HttpRequest request = newRequest(Endpoint.HELLO)
+				.header(SecurityConstants.HEADER_STRING, SecurityConstants.TOKEN_PREFIX + token)
+				.GET()
+				.build();
+		//@formatter:on
+
+		return isSuccessful(send(Endpoint.HELLO, request));
+	}
+
+	public EndpointStatistics getStatistics(Endpoint endpoint) {
+		return statistics.get(endpoint);
+	}
+
+	public void resetStatistics() {
+		statistics.values().forEach(EndpointStatistics::reset);
+	}
+
+	private HttpRequest post(Endpoint endpoint, Object body) {
+
+		try {
+			final String json = objectMapper.writeValueAsString(body);
+
+			//@formatter:off
+			return newRequest(endpoint)
+					.header(CONTENT_TYPE, APPLICATION_JSON)
+					.POST(HttpRequest.BodyPublishers.ofString(json))
+					.build();
+			//@formatter:on
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private HttpRequest.Builder newRequest(Endpoint endpoint) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + endpoint.getPath())).timeout(requestTimeout);
+	}
+
+	private HttpResponse<String> send(Endpoint endpoint, HttpRequest request) {
+
+		final long start = System.nanoTime();
+		try {
+			final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+			statistics.get(endpoint).record(System.nanoTime() - start, response.statusCode());
+
+			return response;
+		}
+		catch (IOException e) {
+			statistics.get(endpoint).record(System.nanoTime() - start, EndpointStatistics.FAILED_REQUEST);
+			return null;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+
+	private static boolean isSuccessful(HttpResponse<String> response) {
+		return Objects.nonNull(response) && response.statusCode() / 100 == 2;
+	}
+
+}
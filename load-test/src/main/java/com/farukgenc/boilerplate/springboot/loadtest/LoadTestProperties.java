@@ -0,0 +1,81 @@
+package com.farukgenc.boilerplate.springboot.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+public class LoadTestProperties {
+
+	public static final String PREFIX = "load-test";
+
+	/**
+	 * Address of an already running instance, when empty the application is started on an embedded database.
+	 */
+	private String baseUrl;
+
+	/**
+	 * Traffic of the warmup period is sent but not reported.
+	 */
+	private Duration warmup = Duration.ofSeconds(10);
+
+	private Duration duration = Duration.ofSeconds(60);
+
+	/**
+	 * Number of clients that send the mixed workload, each one waits for its response before the next request.
+	 */
+	private int concurrency = 16;
+
+	/**
+	 * Users registered and logged in before the run, their tokens are reused by the authenticated traffic.
+	 */
+	private int users = 100;
+
+	private String password = "load-test-password";
+
+	private Duration requestTimeout = Duration.ofSeconds(10);
+
+	private Mix mix = new Mix();
+
+	private Burst registrationBurst = new Burst();
+
+	private Burst loginStorm = new Burst();
+
+	private String reportDirectory = "target/load-test";
+
+	/**
+	 * Relative weights of the operations in the steady workload.
+	 */
+	@Getter
+	@Setter
+	public static class Mix {
+
+		private int registration = 5;
+
+		private int login = 15;
+
+		private int hello = 80;
+
+	}
+
+	/**
+	 * Requests sent all at once on top of the steady workload, repeated at every interval. A zero interval disables it.
+	 */
+	@Getter
+	@Setter
+	public static class Burst {
+
+		private Duration interval = Duration.ZERO;
+
+		private int size = 100;
+
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.farukgenc.boilerplate.springboot.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Created on October, 2026
+ *
+ * Prints throughput and latency percentiles per endpoint and writes the full HdrHistogram percentile distribution of
+ * each endpoint to {@code <endpoint>.hgrm}, which can be plotted or compared with the HdrHistogram tools.
+ *
+ * @author Faruk
+ */
+public class LoadTestReport {
+
+	private static final double MICROSECONDS_PER_MILLISECOND = 1000.0;
+
+	private static final String HEADER_FORMAT = "%-14s %10s %10s %10s %10s %10s %10s %10s %10s  %s%n";
+
+	private static final String ROW_FORMAT = "%-14s %10d %10d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f  %s%n";
+
+	private final LoadTestClient client;
+
+	private final Path reportDirectory;
+
+	public LoadTestReport(LoadTestClient client, String reportDirectory) {
+
+		this.client = client;
+		this.reportDirectory = Paths.get(reportDirectory);
+	}
+
+	public void write(Duration measuredPeriod, PrintStream out) throws IOException {
+
+		Files.createDirectories(reportDirectory);
+
+		final double seconds = measuredPeriod.toMillis() / 1000.0;
+
+		out.println();
+		out.printf(Locale.ROOT, HEADER_FORMAT, "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms", "statuses");
+
+		for (Endpoint endpoint : Endpoint.values()) {
+
+			final EndpointStatistics statistics = client.getStatistics(endpoint);
+			final Histogram histogram = statistics.getHistogram();
+			final Map<Integer, Long> statusCounts = statistics.getStatusCounts();
+
+			final long errors = statusCounts.entrySet().stream().filter(entry -> entry.getKey() / 100 != 2).mapToLong(Map.Entry::getValue).sum();
+
+			//@formatter:off
+			out.printf(Locale.ROOT, ROW_FORMAT,
+					endpoint.getPath(),
+					histogram.getTotalCount(),
+					errors,
+					histogram.getTotalCount() / seconds,
+					toMillis(histogram.getValueAtPercentile(50)),
+					toMillis(histogram.getValueAtPercentile(95)),
+					toMillis(histogram.getValueAtPercentile(99)),
+					toMillis(histogram.getValueAtPercentile(99.9)),
+					toMillis(histogram.getMaxValue()),
+					formatStatuses(statusCounts));
+			//@formatter:on
+
+			writeDistribution(endpoint, histogram);
+		}
+
+		out.println();
+		out.printf("Percentile distributions written to %s%n", reportDirectory.toAbsolutePath());
+	}
+
+	private void writeDistribution(Endpoint endpoint, Histogram histogram) throws IOException {
+
+		final Path file = reportDirectory.resolve(endpoint.name().toLowerCase(Locale.ROOT) + ".hgrm");
+
+		try (PrintStream printStream = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8.name())) {
+			histogram.outputPercentileDistribution(printStream, MICROSECONDS_PER_MILLISECOND);
+		}
+	}
+
+	private static double toMillis(long micros) {
+		return micros / MICROSECONDS_PER_MILLISECOND;
+	}
+
+	private static String formatStatuses(Map<Integer, Long> statusCounts) {
+
+		final StringJoiner joiner = new StringJoiner(" ");
+		statusCounts.forEach((status, count) -> joiner.add((status == EndpointStatistics.FAILED_REQUEST ? "failed" : status) + "=" + count));
+
+		return joiner.toString();
+	}
+
+}
@@ -0,0 +1,172 @@
+package com.farukgenc.boilerplate.springboot.loadtest;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Created on October, 2026
+ *
+ * Registers and logs in the seed users, then runs the steady workload of the configured clients until the duration is
+ * over. Registration bursts and login storms are fired on top of it from their own threads, so they pile up on the
+ * server the way a real spike does.
+ *
+ * @author Faruk
+ */
+public class LoadTestRunner {
+
+	private final LoadTestProperties properties;
+
+	private final LoadTestClient client;
+
+	private final String runId = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+	private final AtomicLong registrationCounter = new AtomicLong();
+
+	private final AtomicReferenceArray<String> tokens;
+
+	public LoadTestRunner(LoadTestProperties properties, LoadTestClient client) {
+
+		final LoadTestProperties.Mix mix = properties.getMix();
+		if (properties.getUsers() <= 0 || properties.getConcurrency() <= 0 || mix.getRegistration() + mix.getLogin() + mix.getHello() <= 0) {
+			throw new IllegalArgumentException("Users, concurrency and the sum of the mix weights must be positive.");
+		}
+
+		this.properties = properties;
+		this.client = client;
+		this.tokens = new AtomicReferenceArray<>(properties.getUsers());
+	}
+
+	/**
+	 * @return length of the measured period
+	 */
+	public Duration run() throws InterruptedException {
+
+		seedUsers();
+		client.resetStatistics();
+
+		final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		final ExecutorService burstExecutor = Executors.newCachedThreadPool();
+		final ExecutorService clientExecutor = Executors.newFixedThreadPool(properties.getConcurrency());
+
+		final long warmupNanos = properties.getWarmup().toNanos();
+		final long deadline = System.nanoTime() + warmupNanos + properties.getDuration().toNanos();
+
+		scheduler.schedule(client::resetStatistics, warmupNanos, TimeUnit.NANOSECONDS);
+		scheduleBurst(scheduler, burstExecutor, properties.getRegistrationBurst(), this::register);
+		scheduleBurst(scheduler, burstExecutor, properties.getLoginStorm(), this::login);
+
+		System.out.printf("Running %d clients for %s after a warmup of %s%n", properties.getConcurrency(), properties.getDuration(), properties.getWarmup());
+
+		for (int i = 0; i < properties.getConcurrency(); i++) {
+			clientExecutor.execute(() -> {
+				while (System.nanoTime() < deadline) {
+					nextOperation().run();
+				}
+			});
+		}
+
+		clientExecutor.shutdown();
+		clientExecutor.awaitTermination(properties.getWarmup().plus(properties.getDuration()).plusMinutes(1).toMillis(), TimeUnit.MILLISECONDS);
+
+		scheduler.shutdownNow();
+		burstExecutor.shutdownNow();
+
+		return properties.getDuration();
+	}
+
+	private void seedUsers() throws InterruptedException {
+
+		System.out.printf("Registering and logging in %d users%n", tokens.length());
+
+		final ExecutorService seedExecutor = Executors.newFixedThreadPool(properties.getConcurrency());
+		final CountDownLatch latch = new CountDownLatch(tokens.length());
+
+		for (int i = 0; i < tokens.length(); i++) {
+			final int index = i;
+			seedExecutor.execute(() -> {
+				final String username = seedUsername(index);
+				client.register(username, properties.getPassword());
+				tokens.set(index, client.login(username, properties.getPassword()));
+				latch.countDown();
+			});
+		}
+
+		latch.await();
+		seedExecutor.shutdown();
+
+		for (int i = 0; i < tokens.length(); i++) {
+			if (Objects.nonNull(tokens.get(i))) {
+				return;
+			}
+		}
+
+		throw new IllegalStateException("None of the seed users could log in, check the application log.");
+	}
+
+	private void scheduleBurst(ScheduledExecutorService scheduler, ExecutorService burstExecutor, LoadTestProperties.Burst burst, Runnable operation) {
+
+		final long intervalNanos = burst.getInterval().toNanos();
+		if (intervalNanos <= 0) {
+			return;
+		}
+
+		scheduler.scheduleAtFixedRate(() -> {
+			for (int i = 0; i < burst.getSize(); i++) {
+				burstExecutor.execute(operation);
+			}
+		}, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private Runnable nextOperation() {
+
+		final LoadTestProperties.Mix mix = properties.getMix();
+		final int total = mix.getRegistration() + mix.getLogin() + mix.getHello();
+		final int choice = ThreadLocalRandom.current().nextInt(total);
+
+		if (choice < mix.getRegistration()) {
+			return this::register;
+		}
+		if (choice < mix.getRegistration() + mix.getLogin()) {
+			return this::login;
+		}
+		return this::hello;
+	}
+
+	private void register() {
+
+		final String username = "lt" + runId + "u" + registrationCounter.incrementAndGet();
+		client.register(username, properties.getPassword());
+	}
+
+	private void login() {
+
+		final int index = ThreadLocalRandom.current().nextInt(tokens.length());
+		final String token = client.login(seedUsername(index), properties.getPassword());
+
+		if (Objects.nonNull(token)) {
+			tokens.set(index, token);
+		}
+	}
+
+	private void hello() {
+
+		final String token = tokens.get(ThreadLocalRandom.current().nextInt(tokens.length()));
+
+		if (Objects.nonNull(token)) {
+			client.hello(token);
+		}
+	}
+
+	private String seedUsername(int index) {
+		return "lt" + runId + "s" + index;
+	}
+
+}
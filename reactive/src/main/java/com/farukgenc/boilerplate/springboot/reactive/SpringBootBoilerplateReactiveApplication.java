@@ -0,0 +1,35 @@
+package com.farukgenc.boilerplate.springboot.reactive;
+
+import com.farukgenc.boilerplate.springboot.configuration.MessageConfiguration;
+import com.farukgenc.boilerplate.springboot.configuration.PasswordEncoderConfiguration;
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtKeyProvider;
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtProperties;
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtTokenManager;
+import com.farukgenc.boilerplate.springboot.security.jwt.VerifiedTokenCache;
+import com.farukgenc.boilerplate.springboot.security.service.PasswordHashingProperties;
+import com.farukgenc.boilerplate.springboot.utils.ExceptionMessageAccessor;
+import com.farukgenc.boilerplate.springboot.utils.GeneralMessageAccessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Created on October, 2026
+ *
+ * Only the components that do not depend on the servlet stack are imported from the application module.
+ *
+ * @author Faruk
+ */
+@EnableScheduling
+@SpringBootApplication
+@Import({JwtProperties.class, JwtKeyProvider.class, JwtTokenManager.class, VerifiedTokenCache.class, PasswordEncoderConfiguration.class, PasswordHashingProperties.class,
+		 MessageConfiguration.class, GeneralMessageAccessor.class, ExceptionMessageAccessor.class})
+public class SpringBootBoilerplateReactiveApplication {
+
+	public static void main(String[] args) {
+
+		SpringApplication.run(SpringBootBoilerplateReactiveApplication.class, args);
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.farukgenc.boilerplate.springboot.reactive.configuration;
+
+import com.farukgenc.boilerplate.springboot.reactive.security.jwt.JwtAuthenticationWebFilter;
+import com.farukgenc.boilerplate.springboot.reactive.security.service.PasswordHashingScheduler;
+import com.farukgenc.boilerplate.springboot.reactive.security.service.UserDetailsServiceImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.savedrequest.NoOpServerRequestCache;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class SecurityConfiguration {
+
+	private final JwtAuthenticationWebFilter jwtAuthenticationWebFilter;
+
+	/**
+	 * Passwords are matched on the password hashing scheduler, outdated hashes are upgraded on login.
+	 */
+	@Bean
+	public ReactiveAuthenticationManager authenticationManager(UserDetailsServiceImpl userDetailsService, PasswordEncoder passwordEncoder,
+															   PasswordHashingScheduler passwordHashingScheduler) {
+
+		final UserDetailsRepositoryReactiveAuthenticationManager authenticationManager = new UserDetailsRepositoryReactiveAuthenticationManager(userDetailsService);
+		authenticationManager.setPasswordEncoder(passwordEncoder);
+		authenticationManager.setUserDetailsPasswordService(userDetailsService);
+		authenticationManager.setScheduler(passwordHashingScheduler.getScheduler());
+
+		return authenticationManager;
+	}
+
+	@Bean
+	public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+
+		//@formatter:off
+
+		return http.csrf().disable()
+				.httpBasic().disable()
+				.formLogin().disable()
+				.logout().disable()
+				.securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+				.requestCache().requestCache(NoOpServerRequestCache.getInstance()).and()
+				.addFilterAt(jwtAuthenticationWebFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+				.authorizeExchange()
+				.pathMatchers("/register", "/login", "/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+				.anyExchange().authenticated().and()
+				.exceptionHandling().authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED)).and()
+				.build();
+
+		//@formatter:on
+	}
+
+}
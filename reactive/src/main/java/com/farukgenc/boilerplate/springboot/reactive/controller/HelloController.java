@@ -0,0 +1,22 @@
+package com.farukgenc.boilerplate.springboot.reactive.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@RestController
+public class HelloController {
+
+	@GetMapping("/hello")
+	public Mono<ResponseEntity<String>> sayHello() {
+
+		return Mono.just(ResponseEntity.ok("Hello Spring Boot Boilerplate"));
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.farukgenc.boilerplate.springboot.reactive.controller;
+
+import com.farukgenc.boilerplate.springboot.security.dto.LoginRequest;
+import com.farukgenc.boilerplate.springboot.security.dto.LoginResponse;
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtClaimsSource;
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtTokenManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Slf4j
+@CrossOrigin
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/login")
+public class LoginController {
+
+	private final ReactiveAuthenticationManager authenticationManager;
+
+	private final JwtTokenManager jwtTokenManager;
+
+	@PostMapping
+	public Mono<ResponseEntity<LoginResponse>> loginRequest(@Valid @RequestBody LoginRequest loginRequest) {
+
+		final String username = loginRequest.getUsername();
+		final UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(username, loginRequest.getPassword());
+
+		//@formatter:off
+		return authenticationManager.authenticate(authenticationToken)
+				.map(authentication -> {
+					final String token = jwtTokenManager.generateToken((JwtClaimsSource) authentication.getPrincipal());
+					log.info("{} has successfully logged in!", username);
+					return ResponseEntity.ok(new LoginResponse(token));
+				});
+		//@formatter:on
+	}
+
+}
@@ -1,17 +1,18 @@
-package com.farukgenc.boilerplate.springboot.controller;
+package com.farukgenc.boilerplate.springboot.reactive.controller;
 
+import com.farukgenc.boilerplate.springboot.reactive.security.service.UserService;
 import com.farukgenc.boilerplate.springboot.security.dto.RegistrationRequest;
 import com.farukgenc.boilerplate.springboot.security.dto.RegistrationResponse;
-import com.farukgenc.boilerplate.springboot.security.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
 
 /**
- * Created on Ağustos, 2020
+ * Created on October, 2026
  *
  * @author Faruk
  */
@@ -24,11 +25,9 @@ public class RegistrationController {
 	private final UserService userService;
 
 	@PostMapping
-	public ResponseEntity<RegistrationResponse> registrationRequest(@Valid @RequestBody RegistrationRequest registrationRequest) {
+	public Mono<ResponseEntity<RegistrationResponse>> registrationRequest(@Valid @RequestBody RegistrationRequest registrationRequest) {
 
-		final RegistrationResponse registrationResponse = userService.registration(registrationRequest);
-
-		return ResponseEntity.status(HttpStatus.CREATED).body(registrationResponse);
+		return userService.registration(registrationRequest).map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
 	}
 
 }
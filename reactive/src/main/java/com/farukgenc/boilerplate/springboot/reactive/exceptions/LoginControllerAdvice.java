@@ -1,6 +1,7 @@
-package com.farukgenc.boilerplate.springboot.exceptions;
+package com.farukgenc.boilerplate.springboot.reactive.exceptions;
 
-import com.farukgenc.boilerplate.springboot.controller.LoginController;
+import com.farukgenc.boilerplate.springboot.exceptions.ApiExceptionResponse;
+import com.farukgenc.boilerplate.springboot.reactive.controller.LoginController;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -10,7 +11,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.time.LocalDateTime;
 
 /**
- * Created on Ağustos, 2020
+ * Created on October, 2026
  *
  * @author Faruk
  */
@@ -18,7 +19,7 @@ import java.time.LocalDateTime;
 public class LoginControllerAdvice {
 
 	@ExceptionHandler(BadCredentialsException.class)
-	ResponseEntity<ApiExceptionResponse> handleRegistrationException(BadCredentialsException exception) {
+	ResponseEntity<ApiExceptionResponse> handleBadCredentialsException(BadCredentialsException exception) {
 
 		final ApiExceptionResponse response = new ApiExceptionResponse(exception.getMessage(), HttpStatus.UNAUTHORIZED, LocalDateTime.now());
 
@@ -1,6 +1,8 @@
-package com.farukgenc.boilerplate.springboot.exceptions;
+package com.farukgenc.boilerplate.springboot.reactive.exceptions;
 
-import com.farukgenc.boilerplate.springboot.controller.RegistrationController;
+import com.farukgenc.boilerplate.springboot.exceptions.ApiExceptionResponse;
+import com.farukgenc.boilerplate.springboot.exceptions.RegistrationException;
+import com.farukgenc.boilerplate.springboot.reactive.controller.RegistrationController;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -9,7 +11,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.time.LocalDateTime;
 
 /**
- * Created on Ağustos, 2020
+ * Created on October, 2026
  *
  * @author Faruk
  */
@@ -0,0 +1,46 @@
+package com.farukgenc.boilerplate.springboot.reactive.exceptions;
+
+import com.farukgenc.boilerplate.springboot.exceptions.ApiExceptionResponse;
+import com.farukgenc.boilerplate.springboot.security.service.PasswordHashingProperties;
+import com.farukgenc.boilerplate.springboot.utils.ExceptionMessageAccessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Slf4j
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class ServiceUnavailableAdvice {
+
+	private static final String SERVICE_UNAVAILABLE = "service_unavailable";
+
+	private final ExceptionMessageAccessor exceptionMessageAccessor;
+
+	private final PasswordHashingProperties passwordHashingProperties;
+
+	@ExceptionHandler(RejectedExecutionException.class)
+	ResponseEntity<ApiExceptionResponse> handleRejectedExecutionException(RejectedExecutionException exception) {
+
+		final String message = exceptionMessageAccessor.getMessage(null, SERVICE_UNAVAILABLE);
+		final ApiExceptionResponse response = new ApiExceptionResponse(message, HttpStatus.SERVICE_UNAVAILABLE, LocalDateTime.now());
+
+		log.warn("Request rejected, password hashing queue is full!");
+
+		final String retryAfter = String.valueOf(passwordHashingProperties.getRetryAfter().getSeconds());
+
+		return ResponseEntity.status(response.getStatus()).header(HttpHeaders.RETRY_AFTER, retryAfter).body(response);
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.farukgenc.boilerplate.springboot.reactive.model;
+
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.security.jwt.JwtClaimsSource;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+/**
+ * Created on October, 2026
+ *
+ * Maps the USERS table of the application module.
+ *
+ * @author Faruk
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("USERS")
+public class User implements JwtClaimsSource {
+
+	@Id
+	private Long id;
+
+	private String name;
+
+	private String username;
+
+	private String password;
+
+	private String email;
+
+	private UserRole userRole;
+
+	private int tokenVersion;
+
+	/**
+	 * Maintained by the login activity tracker of the application module.
+	 */
+	private Instant lastLoginAt;
+
+	private long loginCount;
+
+}
@@ -0,0 +1,46 @@
+package com.farukgenc.boilerplate.springboot.reactive.repository;
+
+import com.farukgenc.boilerplate.springboot.reactive.model.User;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.mapping.event.BeforeConvertCallback;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * Created on October, 2026
+ *
+ * Takes ids of new users from USERS_SEQ. The application module allocates blocks of ids below each sequence value it
+ * fetches, so using the fetched value itself can not collide with those blocks.
+ *
+ * @author Faruk
+ */
+@Component
+@RequiredArgsConstructor
+public class UserIdCallback implements BeforeConvertCallback<User> {
+
+	private final DatabaseClient databaseClient;
+
+	@Override
+	public Publisher<User> onBeforeConvert(User user, SqlIdentifier table) {
+
+		if (Objects.nonNull(user.getId())) {
+			return Mono.just(user);
+		}
+
+		//@formatter:off
+		return databaseClient.sql("select nextval('users_seq')")
+				.map(row -> row.get(0, Long.class))
+				.one()
+				.map(id -> {
+					user.setId(id);
+					return user;
+				});
+		//@formatter:on
+	}
+
+}
@@ -0,0 +1,29 @@
+package com.farukgenc.boilerplate.springboot.reactive.repository;
+
+import com.farukgenc.boilerplate.springboot.reactive.model.User;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+public interface UserRepository extends ReactiveCrudRepository<User, Long> {
+
+	Mono<User> findByUsername(String username);
+
+	Mono<Boolean> existsByEmail(String email);
+
+	Mono<Boolean> existsByUsername(String username);
+
+	Flux<User> findByTokenVersionGreaterThan(int tokenVersion);
+
+	@Modifying
+	@Query("update users set password = :password where username = :username")
+	Mono<Integer> updatePassword(String username, String password);
+
+}
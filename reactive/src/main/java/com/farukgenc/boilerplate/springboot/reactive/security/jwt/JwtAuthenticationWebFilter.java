@@ -0,0 +1,69 @@
+package com.farukgenc.boilerplate.springboot.reactive.security.jwt;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.farukgenc.boilerplate.springboot.reactive.security.service.TokenVersionRegistry;
+import com.farukgenc.boilerplate.springboot.security.dto.AuthenticatedUserDetails;
+import com.farukgenc.boilerplate.springboot.security.jwt.VerifiedToken;
+import com.farukgenc.boilerplate.springboot.security.jwt.VerifiedTokenCache;
+import com.farukgenc.boilerplate.springboot.security.utils.SecurityConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * Created on October, 2026
+ *
+ * Reactive counterpart of the servlet JwtAuthenticationFilter. The principal is built from the verified claims, so
+ * no database lookup happens on the event loop.
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+	private final VerifiedTokenCache verifiedTokenCache;
+
+	private final TokenVersionRegistry tokenVersionRegistry;
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+
+		final String header = exchange.getRequest().getHeaders().getFirst(SecurityConstants.HEADER_STRING);
+		if (Objects.isNull(header) || !header.startsWith(SecurityConstants.TOKEN_PREFIX)) {
+			return chain.filter(exchange);
+		}
+
+		final String authToken = header.substring(SecurityConstants.TOKEN_PREFIX.length());
+		final VerifiedToken verifiedToken;
+		try {
+			verifiedToken = verifiedTokenCache.getVerifiedToken(authToken);
+		}
+		catch (JWTVerificationException e) {
+			log.debug("Authentication Exception : {}", e.getMessage());
+			return chain.filter(exchange);
+		}
+
+		if (!tokenVersionRegistry.isCurrent(verifiedToken)) {
+			log.warn("Token of {} has been invalidated!", verifiedToken.getUsername());
+			return chain.filter(exchange);
+		}
+
+		final AuthenticatedUserDetails userDetails = new AuthenticatedUserDetails(verifiedToken.getUsername(), StringUtils.EMPTY, verifiedToken.getUserRole(),
+																				   verifiedToken.getTokenVersion());
+		final UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+
+		return chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.farukgenc.boilerplate.springboot.reactive.security.service;
+
+import com.farukgenc.boilerplate.springboot.security.service.PasswordHashingProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Created on October, 2026
+ *
+ * Bounded scheduler for password hashing and matching, so that BCrypt work never runs on the event loop. When the
+ * queue is full, tasks fail with RejectedExecutionException instead of piling up.
+ *
+ * @author Faruk
+ */
+@Component
+public class PasswordHashingScheduler implements DisposableBean {
+
+	private static final String SCHEDULER_NAME = "password-hashing";
+
+	private final Scheduler scheduler;
+
+	public PasswordHashingScheduler(PasswordHashingProperties passwordHashingProperties) {
+
+		this.scheduler = Schedulers.newBoundedElastic(passwordHashingProperties.getPoolSize(), passwordHashingProperties.getQueueCapacity(), SCHEDULER_NAME);
+	}
+
+	public Scheduler getScheduler() {
+		return scheduler;
+	}
+
+	public <T> Mono<T> fromCallable(Callable<T> callable) {
+
+		return Mono.fromCallable(callable).subscribeOn(scheduler);
+	}
+
+	@Override
+	public void destroy() {
+
+		scheduler.dispose();
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.farukgenc.boilerplate.springboot.reactive.security.service;
+
+import com.farukgenc.boilerplate.springboot.reactive.model.User;
+import com.farukgenc.boilerplate.springboot.reactive.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.jwt.VerifiedToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Created on October, 2026
+ *
+ * In-memory view of the users whose token version has been bumped. Tokens are invalidated through the application
+ * module, so the view is reloaded periodically.
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Component
+@DependsOnDatabaseInitialization
+@RequiredArgsConstructor
+public class TokenVersionRegistry {
+
+	private final UserRepository userRepository;
+
+	private volatile Map<String, Integer> tokenVersions = Collections.emptyMap();
+
+	@PostConstruct
+	void loadTokenVersions() {
+
+		reloadTokenVersions().block();
+	}
+
+	@Scheduled(initialDelayString = "${token-version.refresh-interval:60000}", fixedDelayString = "${token-version.refresh-interval:60000}")
+	void refreshTokenVersions() {
+
+		reloadTokenVersions().subscribe(null, throwable -> log.error("Token versions could not be refreshed : {}", throwable.getMessage()));
+	}
+
+	public boolean isCurrent(VerifiedToken verifiedToken) {
+
+		final int currentTokenVersion = tokenVersions.getOrDefault(verifiedToken.getUsername(), 0);
+
+		return verifiedToken.getTokenVersion() >= currentTokenVersion;
+	}
+
+	private Mono<Map<String, Integer>> reloadTokenVersions() {
+
+		//@formatter:off
+		return userRepository.findByTokenVersionGreaterThan(0)
+				.collectMap(User::getUsername, User::getTokenVersion)
+				.doOnNext(loadedTokenVersions -> {
+					tokenVersions = loadedTokenVersions;
+					log.debug("Token versions of {} users loaded.", loadedTokenVersions.size());
+				});
+		//@formatter:on
+	}
+
+}
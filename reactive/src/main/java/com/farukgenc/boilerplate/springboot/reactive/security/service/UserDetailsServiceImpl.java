@@ -0,0 +1,47 @@
+package com.farukgenc.boilerplate.springboot.reactive.security.service;
+
+import com.farukgenc.boilerplate.springboot.reactive.model.User;
+import com.farukgenc.boilerplate.springboot.reactive.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.dto.AuthenticatedUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsPasswordService;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Service
+@RequiredArgsConstructor
+public class UserDetailsServiceImpl implements ReactiveUserDetailsService, ReactiveUserDetailsPasswordService {
+
+	private final UserRepository userRepository;
+
+	@Override
+	public Mono<UserDetails> findByUsername(String username) {
+
+		return userRepository.findByUsername(username).map(UserDetailsServiceImpl::toUserDetails);
+	}
+
+	@Override
+	public Mono<UserDetails> updatePassword(UserDetails user, String newPassword) {
+
+		final AuthenticatedUserDetails userDetails = (AuthenticatedUserDetails) user;
+		final String username = userDetails.getUsername();
+
+		//@formatter:off
+		return userRepository.updatePassword(username, newPassword)
+				.thenReturn(new AuthenticatedUserDetails(username, newPassword, userDetails.getUserRole(), userDetails.getTokenVersion()));
+		//@formatter:on
+	}
+
+	private static UserDetails toUserDetails(User user) {
+
+		return new AuthenticatedUserDetails(user.getUsername(), user.getPassword(), user.getUserRole(), user.getTokenVersion());
+	}
+
+}
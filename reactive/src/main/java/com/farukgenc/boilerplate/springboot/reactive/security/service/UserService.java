@@ -0,0 +1,106 @@
+package com.farukgenc.boilerplate.springboot.reactive.security.service;
+
+import com.farukgenc.boilerplate.springboot.exceptions.RegistrationException;
+import com.farukgenc.boilerplate.springboot.model.UserConstraints;
+import com.farukgenc.boilerplate.springboot.model.UserRole;
+import com.farukgenc.boilerplate.springboot.reactive.model.User;
+import com.farukgenc.boilerplate.springboot.reactive.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationRequest;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationResponse;
+import com.farukgenc.boilerplate.springboot.utils.ExceptionMessageAccessor;
+import com.farukgenc.boilerplate.springboot.utils.GeneralMessageAccessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Created on October, 2026
+ *
+ * @author Faruk
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserService {
+
+	private static final String EMAIL_ALREADY_EXISTS = "email_already_exists";
+
+	private static final String USERNAME_ALREADY_EXISTS = "username_already_exists";
+
+	private static final String REGISTRATION_SUCCESSFUL = "registration_successful";
+
+	private final UserRepository userRepository;
+
+	private final PasswordEncoder passwordEncoder;
+
+	private final PasswordHashingScheduler passwordHashingScheduler;
+
+	private final ExceptionMessageAccessor exceptionMessageAccessor;
+
+	private final GeneralMessageAccessor generalMessageAccessor;
+
+	/**
+	 * Both existence checks run concurrently and reject duplicates before the password is hashed. The unique
+	 * constraints on USERS remain the authority when two registrations race.
+	 */
+	public Mono<RegistrationResponse> registration(RegistrationRequest registrationRequest) {
+
+		final String email = registrationRequest.getEmail();
+		final String username = registrationRequest.getUsername();
+
+		//@formatter:off
+		return Mono.zip(userRepository.existsByEmail(email), userRepository.existsByUsername(username))
+				.flatMap(exists -> {
+					if (exists.getT1()) {
+						return Mono.error(registrationException(EMAIL_ALREADY_EXISTS, email));
+					}
+					if (exists.getT2()) {
+						return Mono.error(registrationException(USERNAME_ALREADY_EXISTS, username));
+					}
+					return passwordHashingScheduler.fromCallable(() -> passwordEncoder.encode(registrationRequest.getPassword()));
+				})
+				.map(encodedPassword -> User.builder()
+						.name(registrationRequest.getName())
+						.username(username)
+						.email(email)
+						.password(encodedPassword)
+						.userRole(UserRole.USER)
+						.build())
+				.flatMap(userRepository::save)
+				.onErrorMap(DataIntegrityViolationException.class, exception -> translateConstraintViolation(registrationRequest, exception))
+				.map(user -> {
+					log.info("{} registered successfully!", username);
+					return new RegistrationResponse(generalMessageAccessor.getMessage(null, REGISTRATION_SUCCESSFUL, username));
+				});
+		//@formatter:on
+	}
+
+	private Throwable translateConstraintViolation(RegistrationRequest registrationRequest, DataIntegrityViolationException exception) {
+
+		final String message = Objects.toString(exception.getMessage(), "").toUpperCase(Locale.ROOT);
+
+		if (message.contains(UserConstraints.EMAIL_CONSTRAINT)) {
+			return registrationException(EMAIL_ALREADY_EXISTS, registrationRequest.getEmail());
+		}
+
+		if (message.contains(UserConstraints.USERNAME_CONSTRAINT)) {
+			return registrationException(USERNAME_ALREADY_EXISTS, registrationRequest.getUsername());
+		}
+
+		return exception;
+	}
+
+	private RegistrationException registrationException(String messageKey, String value) {
+
+		log.warn("{} is already being used!", value);
+
+		return new RegistrationException(exceptionMessageAccessor.getMessage(null, messageKey));
+	}
+
+}
@@ -0,0 +1,15 @@
+create sequence if not exists users_seq start with 1 increment by 50;
+
+create table if not exists users (
+    id            bigint not null primary key,
+    email         varchar(255),
+    name          varchar(255),
+    password      varchar(255),
+    token_version integer not null default 0,
+    last_login_at timestamp,
+    login_count   bigint not null default 0,
+    user_role     varchar(255),
+    username      varchar(255),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email)
+);
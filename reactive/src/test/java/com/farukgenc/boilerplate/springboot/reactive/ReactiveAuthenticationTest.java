@@ -0,0 +1,110 @@
+package com.farukgenc.boilerplate.springboot.reactive;
+
+import com.farukgenc.boilerplate.springboot.exceptions.ApiExceptionResponse;
+import com.farukgenc.boilerplate.springboot.reactive.repository.UserRepository;
+import com.farukgenc.boilerplate.springboot.security.dto.LoginRequest;
+import com.farukgenc.boilerplate.springboot.security.dto.RegistrationRequest;
+import com.farukgenc.boilerplate.springboot.utils.ExceptionMessageAccessor;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-test;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=",
+        "password-encoder.bcrypt-strength=4"
+})
+@AutoConfigureWebTestClient
+public class ReactiveAuthenticationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExceptionMessageAccessor exceptionMessageAccessor;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll().block();
+    }
+
+    @Test
+    void register_thenLogin_shouldGrantAccessToHello() {
+        // Given
+        register("testuser", "testuser@example.com").expectStatus().isCreated();
+
+        // When
+        JsonNode loginResponse = login("testuser", "password123")
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class).returnResult().getResponseBody();
+
+        // Then
+        assertThat(loginResponse).isNotNull();
+        webTestClient.get().uri("/hello")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + loginResponse.get("token").asText())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("Hello Spring Boot Boilerplate");
+    }
+
+    @Test
+    void hello_whenTokenIsMissingOrInvalid_shouldReturnUnauthorized() {
+        webTestClient.get().uri("/hello").exchange().expectStatus().isUnauthorized();
+        webTestClient.get().uri("/hello").header(HttpHeaders.AUTHORIZATION, "Bearer invalid").exchange().expectStatus().isUnauthorized();
+        webTestClient.get().uri("/actuator/metrics").exchange().expectStatus().isUnauthorized();
+        webTestClient.get().uri("/actuator/health").exchange().expectStatus().isOk();
+    }
+
+    @Test
+    void login_whenPasswordIsWrong_shouldReturnUnauthorized() {
+        // Given
+        register("testuser", "testuser@example.com").expectStatus().isCreated();
+
+        // When & Then
+        login("testuser", "wrong-password").expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void register_whenEmailIsTaken_shouldReturnBadRequest() {
+        // Given
+        register("testuser", "testuser@example.com").expectStatus().isCreated();
+
+        // When
+        ApiExceptionResponse response = register("otheruser", "testuser@example.com")
+                .expectStatus().isBadRequest()
+                .expectBody(ApiExceptionResponse.class).returnResult().getResponseBody();
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(response.getMessage()).isEqualTo(exceptionMessageAccessor.getMessage(null, "email_already_exists"));
+    }
+
+    private WebTestClient.ResponseSpec register(String username, String email) {
+        RegistrationRequest registrationRequest = new RegistrationRequest();
+        registrationRequest.setName("Test User");
+        registrationRequest.setUsername(username);
+        registrationRequest.setEmail(email);
+        registrationRequest.setPassword("password123");
+
+        return webTestClient.post().uri("/register").bodyValue(registrationRequest).exchange();
+    }
+
+    private WebTestClient.ResponseSpec login(String username, String password) {
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername(username);
+        loginRequest.setPassword(password);
+
+        return webTestClient.post().uri("/login").bodyValue(loginRequest).exchange();
+    }
+}
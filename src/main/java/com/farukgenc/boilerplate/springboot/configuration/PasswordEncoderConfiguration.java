@@ -1,21 +0,0 @@
-package com.farukgenc.boilerplate.springboot.configuration;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-
-/**
- * Created on March, 2023
- *
- * @author Faruk
- */
-
-@Configuration
-public class PasswordEncoderConfiguration {
-
-	@Bean
-	public BCryptPasswordEncoder encoder() {
-		return new BCryptPasswordEncoder();
-	}
-
-}
@@ -1,19 +0,0 @@
-package com.farukgenc.boilerplate.springboot.repository;
-
-import com.farukgenc.boilerplate.springboot.model.User;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-/**
- * Created on Ağustos, 2020
- *
- * @author Faruk
- */
-public interface UserRepository extends JpaRepository<User, Long> {
-
-	User findByUsername(String username);
-
-	boolean existsByEmail(String email);
-
-	boolean existsByUsername(String username);
-
-}
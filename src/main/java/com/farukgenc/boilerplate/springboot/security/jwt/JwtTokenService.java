@@ -1,50 +0,0 @@
-package com.farukgenc.boilerplate.springboot.security.jwt;
-
-import com.farukgenc.boilerplate.springboot.security.mapper.UserMapper;
-import com.farukgenc.boilerplate.springboot.security.service.UserService;
-import com.farukgenc.boilerplate.springboot.model.User;
-import com.farukgenc.boilerplate.springboot.security.dto.AuthenticatedUserDto;
-import com.farukgenc.boilerplate.springboot.security.dto.LoginRequest;
-import com.farukgenc.boilerplate.springboot.security.dto.LoginResponse;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.stereotype.Service;
-
-/**
- * Created on Ağustos, 2020
- *
- * @author Faruk
- */
-@Slf4j
-@Service
-@RequiredArgsConstructor
-public class JwtTokenService {
-
-	private final UserService userService;
-
-	private final JwtTokenManager jwtTokenManager;
-
-	private final AuthenticationManager authenticationManager;
-
-	public LoginResponse getLoginResponse(LoginRequest loginRequest) {
-
-		final String username = loginRequest.getUsername();
-		final String password = loginRequest.getPassword();
-
-		final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(username, password);
-
-		authenticationManager.authenticate(usernamePasswordAuthenticationToken);
-
-		final AuthenticatedUserDto authenticatedUserDto = userService.findAuthenticatedUserByUsername(username);
-
-		final User user = UserMapper.INSTANCE.convertToUser(authenticatedUserDto);
-		final String token = jwtTokenManager.generateToken(user);
-
-		log.info("{} has successfully logged in!", user.getUsername());
-
-		return new LoginResponse(token);
-	}
-
-}